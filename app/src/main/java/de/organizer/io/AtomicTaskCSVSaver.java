@@ -0,0 +1,183 @@
+package de.organizer.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import de.organizer.model.Task;
+import de.organizer.util.AtomicFiles;
+
+/**
+ * Speichert Tasks absturzsicher: Die CSV wird zuerst in eine temporäre Datei im selben
+ * Verzeichnis geschrieben, je nach FsyncPolicy auf den Datenträger gezwungen und dann
+ * atomar über die Zieldatei verschoben. Die Zieldatei enthält so immer entweder den
+ * alten oder den vollständigen neuen Stand.
+ *
+ * Format wie TaskCSVHandler.saveTasksAsUTF8CSV() -> Einlesen mit UTF-8.
+ */
+public class AtomicTaskCSVSaver {
+
+	private static final Duration DEFAULT_BATCH_INTERVAL = Duration.ofSeconds(1);
+
+	private final FsyncPolicy policy;
+	private final long batchIntervalNanos;
+
+	private long lastSyncNanos;
+	private boolean synced;					// wurde überhaupt schon synchronisiert?
+	private long saveCount;
+	private long totalLatencyNanos;
+	private long maxLatencyNanos;
+
+	/**
+	 * @param policy Synchronisierungsstrategie (BATCHED mit 1 Sekunde Intervall)
+	 */
+	public AtomicTaskCSVSaver(FsyncPolicy policy) {
+		this(policy, DEFAULT_BATCH_INTERVAL);
+	}
+
+	/**
+	 * @param policy Synchronisierungsstrategie
+	 * @param batchInterval Mindestabstand zwischen zwei Verzeichnis-Synchronisierungen bei FsyncPolicy.BATCHED
+	 */
+	public AtomicTaskCSVSaver(FsyncPolicy policy, Duration batchInterval) {
+		if (policy == null) throw new IllegalArgumentException("FsyncPolicy muss gesetzt sein");
+		if (batchInterval.isNegative()) throw new IllegalArgumentException("Intervall darf nicht negativ sein");
+		this.policy = policy;
+		this.batchIntervalNanos = batchInterval.toNanos();
+	}
+
+	/**
+	 * Speichert die Liste atomar in die Zieldatei.
+	 * Schlägt das Schreiben fehl, bleibt die Zieldatei unverändert und die temporäre Datei wird gelöscht.
+	 * @param taskList Liste der zu speichernden Tasks
+	 * @param file Zieldatei
+	 * @return Messwerte dieser Speicherung
+	 * @throws IOException wenn beim Schreiben oder Umbenennen ein Fehler auftritt
+	 */
+	public synchronized SaveReport save(List<Task> taskList, File file) throws IOException {
+
+		long start = System.nanoTime();
+		Path target = file.toPath().toAbsolutePath();
+		Path directory = target.getParent();
+		Path temp = AtomicFiles.createTempFile(target);
+
+		boolean forceData = policy != FsyncPolicy.NEVER;	// Umbenennen ohne fsync der Daten -> leere Datei möglich
+		boolean sync = shouldSync(start);
+		long written;
+		long syncNanos = 0;
+
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+				TaskCSVChannelWriter writer = new TaskCSVChannelWriter(channel);
+				writer.writeHeader();
+				for (Task task : taskList) {
+					writer.write(task);
+				}
+				writer.flush();
+				written = channel.size();
+
+				if (forceData) {
+					long syncStart = System.nanoTime();
+					channel.force(true);
+					syncNanos += System.nanoTime() - syncStart;
+				}
+			}
+			AtomicFiles.move(temp, target);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+
+		if (sync) {
+			long syncStart = System.nanoTime();
+			AtomicFiles.syncDirectory(directory);	// Umbenennung selbst dauerhaft machen
+			syncNanos += System.nanoTime() - syncStart;
+			lastSyncNanos = start;
+			synced = true;
+		}
+
+		long latency = System.nanoTime() - start;
+		saveCount++;
+		totalLatencyNanos += latency;
+		maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+
+		return new SaveReport(taskList.size(), written, latency, syncNanos, sync);
+	}
+
+	/** @return Anzahl der bisher erfolgreichen Speicherungen */
+	public synchronized long getSaveCount() {
+		return saveCount;
+	}
+
+	/** @return durchschnittliche Dauer einer Speicherung in Millisekunden */
+	public synchronized double getAverageLatencyMillis() {
+		return saveCount == 0 ? 0 : totalLatencyNanos / 1e6 / saveCount;
+	}
+
+	/** @return längste Dauer einer Speicherung in Millisekunden */
+	public synchronized double getMaxLatencyMillis() {
+		return maxLatencyNanos / 1e6;
+	}
+
+	public FsyncPolicy getPolicy() {
+		return policy;
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private boolean shouldSync(long now) {
+		switch (policy) {
+			case ALWAYS:
+				return true;
+			case BATCHED:
+				return !synced || now - lastSyncNanos >= batchIntervalNanos;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Messwerte einer einzelnen Speicherung.
+	 */
+	public static class SaveReport {
+
+		private final int taskCount;
+		private final long bytesWritten;
+		private final long latencyNanos;
+		private final long syncNanos;
+		private final boolean synced;
+
+		SaveReport(int taskCount, long bytesWritten, long latencyNanos, long syncNanos, boolean synced) {
+			this.taskCount = taskCount;
+			this.bytesWritten = bytesWritten;
+			this.latencyNanos = latencyNanos;
+			this.syncNanos = syncNanos;
+			this.synced = synced;
+		}
+
+		public int getTaskCount() {return taskCount;}
+
+		public long getBytesWritten() {return bytesWritten;}
+
+		/** @return Gesamtdauer inklusive Schreiben, fsync und Umbenennen */
+		public long getLatencyNanos() {return latencyNanos;}
+
+		/** @return Anteil von fsync an der Gesamtdauer */
+		public long getSyncNanos() {return syncNanos;}
+
+		/** @return true, wenn auch die Umbenennung (Verzeichnis) mit fsync abgesichert wurde */
+		public boolean isSynced() {return synced;}
+
+		@Override
+		public String toString() {
+			return String.format("%d Tasks, %d Bytes in %.2f ms (fsync %.2f ms)",
+					taskCount, bytesWritten, latencyNanos / 1e6, syncNanos / 1e6);
+		}
+	}
+}
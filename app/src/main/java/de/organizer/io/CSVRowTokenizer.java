@@ -0,0 +1,268 @@
+package de.organizer.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Zerlegt CSV-Zeilen direkt in einem wiederverwendbaren char-Puffer.
+ * Felder werden nur als Start-/End-Offsets gemerkt und erst beim Abruf
+ * (getLong(), getEnum(), getLocalDate() ...) aus dem Zeichenbereich geparst.
+ * So entstehen pro Zeile weder String[] noch Teil-Strings.
+ *
+ * Zeilenenden wie bei BufferedReader.readLine(): "\n", "\r" oder "\r\n".
+ * Die Feldanzahl entspricht der von String.split() (leere Felder am Zeilenende zählen nicht).
+ */
+public final class CSVRowTokenizer implements Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private final Reader reader;
+	private final char separator;
+
+	private char[] buffer;
+	private int position;				// nächstes ungelesenes Zeichen im Puffer
+	private int limit;					// Ende der gültigen Daten im Puffer
+	private boolean endOfStream;
+	private boolean skipLineFeed;		// letzte Zeile endete mit '\r' -> folgendes '\n' überspringen
+
+	private int[] fieldStart = new int[16];
+	private int[] fieldEnd = new int[16];
+	private int fieldCount;
+
+	/**
+	 * @param reader Quelle der CSV-Daten, wird mit close() geschlossen
+	 * @param separator Trennzeichen zwischen den Feldern
+	 */
+	public CSVRowTokenizer(Reader reader, char separator) {
+		this(reader, separator, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * @param reader Quelle der CSV-Daten, wird mit close() geschlossen
+	 * @param separator Trennzeichen zwischen den Feldern
+	 * @param bufferSize Anfangsgröße des Puffers (wächst bei überlangen Zeilen)
+	 */
+	public CSVRowTokenizer(Reader reader, char separator, int bufferSize) {
+		if (bufferSize <= 0) throw new IllegalArgumentException("Puffergröße muss positiv sein");
+		this.reader = reader;
+		this.separator = separator;
+		this.buffer = new char[bufferSize];
+	}
+
+	/**
+	 * Liest die nächste Zeile ein und zerlegt sie in Felder.
+	 * Die Werte der vorherigen Zeile sind danach ungültig.
+	 * @return false, wenn das Dateiende erreicht ist
+	 * @throws IOException wenn beim Lesen ein Fehler auftritt
+	 */
+	public boolean nextRow() throws IOException {
+
+		if (skipLineFeed) {
+			if (position >= limit) fill();
+			if (position < limit && buffer[position] == '\n') position++;
+			skipLineFeed = false;
+		}
+		if (position >= limit && !fill()) return false;
+
+		int scan = position;
+		int lineEnd = -1;
+		while (lineEnd < 0) {
+			while (scan < limit) {
+				char c = buffer[scan];
+				if (c == '\n' || c == '\r') {
+					lineEnd = scan;
+					skipLineFeed = c == '\r';
+					break;
+				}
+				scan++;
+			}
+			if (lineEnd < 0) {
+				int offset = position;
+				if (!fill()) {
+					lineEnd = limit; // letzte Zeile ohne Zeilenumbruch
+				}
+				scan -= offset - position; // fill() verschiebt die Daten an den Pufferanfang
+			}
+		}
+
+		tokenize(position, lineEnd);
+		position = lineEnd < limit ? lineEnd + 1 : lineEnd;
+		return true;
+	}
+
+	/**
+	 * @return Anzahl der Felder der aktuellen Zeile (ohne leere Felder am Zeilenende)
+	 */
+	public int fieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * @return true, wenn das Feld keine Zeichen enthält
+	 */
+	public boolean isEmpty(int index) {
+		return length(index) == 0;
+	}
+
+	/**
+	 * Einziger Abruf, der einen neuen String erzeugt.
+	 * @return Feldinhalt als String
+	 */
+	public String getString(int index) {
+		return new String(buffer, start(index), length(index));
+	}
+
+	/**
+	 * Wie getString(), wiederholte Inhalte kommen aber als dieselbe Instanz aus dem Pool.
+	 * @param pool Pool des laufenden Imports, null = ohne Deduplizierung
+	 * @return Feldinhalt als String
+	 */
+	public String getString(int index, StringDeduplicator pool) {
+		if (pool == null) return getString(index);
+		return pool.deduplicate(buffer, start(index), length(index));
+	}
+
+	/**
+	 * Parst das Feld wie Long.parseLong().
+	 * @throws NumberFormatException bei ungültigem Inhalt
+	 */
+	public long getLong(int index) {
+		int from = start(index);
+		int to = fieldEnd[index];
+		if (to - from == 0 || to - from > 18) return Long.parseLong(getString(index)); // Sonderfälle/Überlauf
+
+		boolean negative = false;
+		char first = buffer[from];
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (++from == to) throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+		}
+		long value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = buffer[i] - '0';
+			if (digit < 0 || digit > 9) throw new NumberFormatException("For input string: \"" + getString(index) + "\"");
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Parst das Feld wie Boolean.parseBoolean(): nur "true" (Groß-/Kleinschreibung egal) ergibt true.
+	 */
+	public boolean getBoolean(int index) {
+		return length(index) == 4 && regionMatches(index, "true", true);
+	}
+
+	/**
+	 * Sucht die Enum-Konstante, deren name() dem Feld entspricht (wie Enum.valueOf()).
+	 * @param values vorab zwischengespeichertes Ergebnis von values(), da values() jedes Mal kopiert
+	 * @throws IllegalArgumentException wenn keine Konstante passt
+	 */
+	public <E extends Enum<E>> E getEnum(int index, E[] values) {
+		for (E value : values) {
+			String name = value.name();
+			if (name.length() == length(index) && regionMatches(index, name, false)) return value;
+		}
+		String type = values.length > 0 ? values[0].getDeclaringClass().getName() : "?";
+		throw new IllegalArgumentException("No enum constant " + type + "." + getString(index));
+	}
+
+	/**
+	 * Parst ein ISO-Datum (yyyy-MM-dd) ohne Umweg über einen String.
+	 * Abweichende Formate gehen an LocalDate.parse().
+	 */
+	public LocalDate getLocalDate(int index) {
+		return ISODateParser.parseLocalDate(buffer, start(index), length(index));
+	}
+
+	/**
+	 * Parst Datum und Uhrzeit im Format von LocalDateTime.toString()
+	 * (yyyy-MM-ddTHH:mm[:ss[.fffffffff]]) ohne Umweg über einen String.
+	 * Abweichende Formate gehen an LocalDateTime.parse().
+	 */
+	public LocalDateTime getLocalDateTime(int index) {
+		return ISODateParser.parseLocalDateTime(buffer, start(index), length(index));
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/**
+	 * Verschiebt ungelesene Daten an den Pufferanfang und liest nach.
+	 * Ist der Puffer mit einer einzigen Zeile voll, wird er verdoppelt.
+	 * @return false, wenn keine weiteren Zeichen gelesen werden konnten
+	 */
+	private boolean fill() throws IOException {
+		if (endOfStream) return false;
+
+		int remaining = limit - position;
+		if (position > 0) {
+			System.arraycopy(buffer, position, buffer, 0, remaining);
+		} else if (remaining == buffer.length) {
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		}
+		position = 0;
+		limit = remaining;
+
+		int read;
+		do {
+			read = reader.read(buffer, limit, buffer.length - limit);
+		} while (read == 0);
+
+		if (read < 0) {
+			endOfStream = true;
+			return false;
+		}
+		limit += read;
+		return true;
+	}
+
+	/** Merkt sich die Feldgrenzen im Bereich [from, to). */
+	private void tokenize(int from, int to) {
+		fieldCount = 0;
+		int start = from;
+		for (int i = from; i <= to; i++) {
+			if (i == to || buffer[i] == separator) {
+				if (fieldCount == fieldStart.length) {
+					fieldStart = Arrays.copyOf(fieldStart, fieldCount * 2);
+					fieldEnd = Arrays.copyOf(fieldEnd, fieldCount * 2);
+				}
+				fieldStart[fieldCount] = start;
+				fieldEnd[fieldCount] = i;
+				fieldCount++;
+				start = i + 1;
+			}
+		}
+		// wie String.split(): leere Felder am Ende entfallen
+		while (fieldCount > 0 && fieldStart[fieldCount - 1] == fieldEnd[fieldCount - 1]) fieldCount--;
+	}
+
+	private int start(int index) {
+		if (index < 0 || index >= fieldCount) {
+			throw new IndexOutOfBoundsException("Feld " + index + " existiert nicht (Felder: " + fieldCount + ")");
+		}
+		return fieldStart[index];
+	}
+
+	private int length(int index) {
+		return fieldEnd[index] - start(index);
+	}
+
+	private boolean regionMatches(int index, String text, boolean ignoreCase) {
+		int from = start(index);
+		for (int i = 0; i < text.length(); i++) {
+			char c = buffer[from + i];
+			char expected = text.charAt(i);
+			if (c != expected && !(ignoreCase && Character.toLowerCase(c) == expected)) return false;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,33 @@
+package de.organizer.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Schnittstelle für Kompressionsverfahren beim Laden und Speichern von Tasks.
+ * Eigene Verfahren können über CompressionOptions.Builder.codec() eingehängt werden;
+ * die mitgelieferten stehen in StandardCompressionCodec.
+ */
+public interface CompressionCodec {
+
+	/**
+	 * Umhüllt einen Ausgabestream, der beim Schließen auch den inneren Stream schließt.
+	 * @param out innerer Stream
+	 * @param level Kompressionsstufe (0 = keine bis 9 = maximal, -1 = Standard des Verfahrens)
+	 * @param bufferSize Puffergröße in Bytes
+	 */
+	OutputStream compress(OutputStream out, int level, int bufferSize) throws IOException;
+
+	/**
+	 * Umhüllt einen Eingabestream und dekomprimiert beim Lesen (mit begrenztem Speicher).
+	 * @param in innerer Stream
+	 * @param bufferSize Puffergröße in Bytes
+	 */
+	InputStream decompress(InputStream in, int bufferSize) throws IOException;
+
+	/**
+	 * @return typische Dateiendung inklusive Punkt (z.B. ".gz"), leer, wenn keine
+	 */
+	String getExtension();
+}
@@ -0,0 +1,92 @@
+package de.organizer.io;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+/**
+ * Einstellungen für komprimiertes Laden und Speichern: Verfahren, Stufe und Puffergröße.
+ * Erzeugung über den Builder oder anhand der Dateiendung mit forFile().
+ */
+public final class CompressionOptions {
+
+	/** Unkomprimiert mit Standardpuffer */
+	public static final CompressionOptions NONE = new Builder().build();
+
+	private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private final CompressionCodec codec;
+	private final int level;
+	private final int bufferSize;
+
+	public CompressionCodec getCodec() {return codec;}
+
+	public int getLevel() {return level;}
+
+	public int getBufferSize() {return bufferSize;}
+
+	/**
+	 * Wählt das Verfahren anhand der Dateiendung (.gz -> GZIP, .zz/.deflate -> DEFLATE, sonst keines).
+	 * @param file Datei, deren Name ausgewertet wird
+	 * @return Optionen mit Standardstufe und -puffer
+	 */
+	public static CompressionOptions forFile(File file) {
+		String name = file.getName().toLowerCase(Locale.ROOT);
+		if (name.endsWith(".gz")) return new Builder().codec(StandardCompressionCodec.GZIP).build();
+		if (name.endsWith(".zz") || name.endsWith(".deflate")) return new Builder().codec(StandardCompressionCodec.DEFLATE).build();
+		return NONE;
+	}
+
+	//------------------ Builder ---------------------
+	/**
+	 * Builder-Klasse für CompressionOptions.
+	 */
+	public static class Builder {
+
+		private CompressionCodec codec = StandardCompressionCodec.NONE;
+		private int level = Deflater.DEFAULT_COMPRESSION;
+		private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+		/**
+		 * Setzt das Verfahren (Standard: NONE)
+		 */
+		public Builder codec(CompressionCodec codec) {
+			this.codec = codec;
+			return this;
+		}
+
+		/**
+		 * Setzt die Stufe 0-9 (Standard: -1 = Standard des Verfahrens)
+		 */
+		public Builder level(int level) {
+			this.level = level;
+			return this;
+		}
+
+		/**
+		 * Setzt die Puffergröße in Bytes (Standard: 64 KiB)
+		 */
+		public Builder bufferSize(int bufferSize) {
+			this.bufferSize = bufferSize;
+			return this;
+		}
+
+		/**
+		 * Baut die Optionen und prüft die Werte.
+		 */
+		public CompressionOptions build() {
+			if (codec == null) throw new IllegalArgumentException("Verfahren muss gesetzt sein");
+			if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+				throw new IllegalArgumentException("Stufe muss zwischen -1 und 9 liegen: " + level);
+			}
+			if (bufferSize <= 0) throw new IllegalArgumentException("Puffergröße muss positiv sein");
+			return new CompressionOptions(this);
+		}
+	}
+
+	private CompressionOptions(Builder builder) {
+		this.codec = builder.codec;
+		this.level = builder.level;
+		this.bufferSize = builder.bufferSize;
+	}
+}
@@ -0,0 +1,23 @@
+package de.organizer.io;
+
+/**
+ * Legt fest, wann beim atomaren Speichern Daten mit fsync auf den Datenträger gezwungen werden.
+ * Je seltener synchronisiert wird, desto schneller ist das Speichern -
+ * desto mehr kann aber bei einem Stromausfall verloren gehen.
+ *
+ * <ul>
+ *   <li>{@link #ALWAYS} - jede Speicherung wird vor dem Umbenennen synchronisiert, danach auch das Verzeichnis</li>
+ *   <li>{@link #BATCHED} - die Daten werden immer vor dem Umbenennen synchronisiert, das Verzeichnis höchstens
+ *       einmal pro Intervall; nach einem Absturz kann die Datei daher einen älteren, aber vollständigen Stand enthalten</li>
+ *   <li>{@link #NEVER} - nur atomares Umbenennen, Synchronisierung übernimmt das Betriebssystem; nach einem
+ *       Stromausfall kann die Datei leer oder unvollständig sein</li>
+ * </ul>
+ */
+public enum FsyncPolicy {
+
+    ALWAYS,
+
+    BATCHED,
+
+    NEVER
+}
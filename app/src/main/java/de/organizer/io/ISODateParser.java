@@ -0,0 +1,79 @@
+package de.organizer.io;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Schnelles Parsen der ISO-Formate von LocalDate.toString() und LocalDateTime.toString()
+ * direkt aus einem char-Bereich. Abweichende Formate gehen an die JDK-Parser,
+ * Ergebnis und Fehlerverhalten bleiben damit gleich.
+ */
+final class ISODateParser {
+
+	private ISODateParser() {
+		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
+	}
+
+	/**
+	 * Parst yyyy-MM-dd.
+	 */
+	static LocalDate parseLocalDate(char[] chars, int from, int length) {
+		if (length != 10 || !isIsoDate(chars, from)) return LocalDate.parse(new String(chars, from, length));
+		return LocalDate.of(digits(chars, from, 4), digits(chars, from + 5, 2), digits(chars, from + 8, 2));
+	}
+
+	/**
+	 * Parst yyyy-MM-ddTHH:mm[:ss[.fffffffff]].
+	 */
+	static LocalDateTime parseLocalDateTime(char[] chars, int from, int length) {
+		if (length < 16 || !isIsoDate(chars, from) || chars[from + 10] != 'T'
+				|| !isDigits(chars, from + 11, 2) || chars[from + 13] != ':' || !isDigits(chars, from + 14, 2)) {
+			return LocalDateTime.parse(new String(chars, from, length));
+		}
+
+		int second = 0;
+		int nano = 0;
+		if (length > 16) {
+			if (length < 19 || chars[from + 16] != ':' || !isDigits(chars, from + 17, 2)) {
+				return LocalDateTime.parse(new String(chars, from, length));
+			}
+			second = digits(chars, from + 17, 2);
+
+			if (length > 19) {
+				int fraction = length - 20;
+				if (chars[from + 19] != '.' || fraction < 1 || fraction > 9 || !isDigits(chars, from + 20, fraction)) {
+					return LocalDateTime.parse(new String(chars, from, length));
+				}
+				nano = digits(chars, from + 20, fraction);
+				for (int i = fraction; i < 9; i++) nano *= 10;
+			}
+		}
+		return LocalDateTime.of(digits(chars, from, 4), digits(chars, from + 5, 2), digits(chars, from + 8, 2),
+				digits(chars, from + 11, 2), digits(chars, from + 14, 2), second, nano);
+	}
+
+	/**
+	 * Parst einen String im Format von LocalDateTime.toString().
+	 */
+	static LocalDateTime parseLocalDateTime(String text) {
+		return parseLocalDateTime(text.toCharArray(), 0, text.length());
+	}
+
+	private static boolean isIsoDate(char[] chars, int from) {
+		return isDigits(chars, from, 4) && chars[from + 4] == '-' && isDigits(chars, from + 5, 2)
+				&& chars[from + 7] == '-' && isDigits(chars, from + 8, 2);
+	}
+
+	private static boolean isDigits(char[] chars, int from, int count) {
+		for (int i = from; i < from + count; i++) {
+			if (chars[i] < '0' || chars[i] > '9') return false;
+		}
+		return true;
+	}
+
+	private static int digits(char[] chars, int from, int count) {
+		int value = 0;
+		for (int i = from; i < from + count; i++) value = value * 10 + (chars[i] - '0');
+		return value;
+	}
+}
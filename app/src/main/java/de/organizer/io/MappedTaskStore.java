@@ -0,0 +1,425 @@
+package de.organizer.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import de.organizer.model.Task;
+import de.organizer.util.AtomicFiles;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Task-Archiv außerhalb des Java-Heaps: Datensätze fester Länge, ein nach id sortierter Index
+ * und ein String-Heap liegen in einer Datei, die per Memory-Mapping geöffnet wird.
+ * Öffnen kostet kein Parsen, der Page-Cache des Betriebssystems übernimmt das Zwischenspeichern,
+ * und der Heap (und damit die GC-Pausen) wächst nicht mit der Archivgröße.
+ *
+ * Aufbau:
+ * <pre>
+ * Header (64 Byte):  int MAGIC ("OTMS") | byte VERSION | 3 Byte frei | int Anzahl
+ *                    long Index-Offset | long String-Offset | long String-Länge | 24 Byte frei
+ * Datensatz (64 Byte, ab Offset 64):
+ *                    long id | long createdAt-Epochensekunde | int Nanosekunden
+ *                    byte Flags (Bit 0 = done, 1 = description, 2 = dueDate, 3 = reminderDate)
+ *                    byte Category-Ordinal | byte Priority-Ordinal | 1 Byte frei
+ *                    int dueDate-Epochentag | int reminderDate-Nanosekunden | long reminderDate-Epochensekunde
+ *                    long title-Offset | long description-Offset (relativ zum String-Heap) | 8 Byte frei
+ * Index:             long[Anzahl] ids aufsteigend | int[Anzahl] zugehörige Datensatznummern
+ * String-Heap:       je String int Länge + UTF-8
+ * </pre>
+ * Zeitpunkte werden wie in TaskBinaryHandler ohne Zeitzone als UTC-Sekunden abgelegt.
+ * Die Ordinals hängen an der Reihenfolge der Enums -> wird diese geändert, muss VERSION erhöht werden.
+ *
+ * Lesen ist thread-sicher. Einzige Änderung nach dem Schreiben ist setDone() (nur bei open() mit
+ * Schreibzugriff). Die Abbildung wird erst freigegeben, wenn der Store nicht mehr erreichbar ist;
+ * nach close() darf er nicht mehr benutzt werden.
+ */
+public final class MappedTaskStore implements Closeable {
+
+	/** "OTMS" - Organizer Task Mapped Store */
+	public static final int MAGIC = 0x4F544D53;
+
+	/** Aktuelle Formatversion */
+	public static final byte VERSION = 1;
+
+	static final int HEADER_SIZE = 64;
+	static final int RECORD_SIZE = 64;
+
+	// Abbildung in Stücken, weil ein MappedByteBuffer höchstens 2 GiB umfasst.
+	// Vielfaches von RECORD_SIZE -> Datensätze und Index-Einträge liegen nie auf einer Grenze.
+	private static final long CHUNK_SIZE = 1L << 30;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final int FLAG_DONE = 1;
+	private static final int FLAG_DESCRIPTION = 1 << 1;
+	private static final int FLAG_DUE_DATE = 1 << 2;
+	private static final int FLAG_REMINDER = 1 << 3;
+
+	// Offsets innerhalb eines Datensatzes
+	private static final int ID = 0;
+	private static final int CREATED_SECONDS = 8;
+	private static final int CREATED_NANOS = 16;
+	private static final int FLAGS = 20;
+	private static final int CATEGORY = 21;
+	private static final int PRIORITY = 22;
+	private static final int DUE_DAY = 24;
+	private static final int REMINDER_NANOS = 28;
+	private static final int REMINDER_SECONDS = 32;
+	private static final int TITLE = 40;
+	private static final int DESCRIPTION = 48;
+
+	// values() kopiert bei jedem Aufruf -> einmalig zwischenspeichern
+	private static final Category[] CATEGORIES = Category.values();
+	private static final Priority[] PRIORITIES = Priority.values();
+
+	private final FileChannel channel;
+	private final MappedByteBuffer[] chunks;
+	private final int count;
+	private final long indexOffset;
+	private final long stringsOffset;
+
+	private MappedTaskStore(FileChannel channel, boolean writable) throws IOException {
+		this.channel = channel;
+		long length = channel.size();
+		if (length < HEADER_SIZE) throw new IOException("Kein Task-Archiv (Datei zu kurz)");
+
+		FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+		this.chunks = new MappedByteBuffer[(int) ((length + CHUNK_SIZE - 1) / CHUNK_SIZE)];
+		for (int i = 0; i < chunks.length; i++) {
+			long start = i * CHUNK_SIZE;
+			chunks[i] = channel.map(mode, start, Math.min(CHUNK_SIZE, length - start));
+		}
+
+		if (getInt(0) != MAGIC) throw new IOException("Kein Task-Archiv (Magic-Nummer fehlt)");
+		byte version = chunks[0].get(4);
+		if (version != VERSION) throw new IOException("Nicht unterstützte Archiv-Version: " + version);
+		this.count = getInt(8);
+		this.indexOffset = getLong(12);
+		this.stringsOffset = getLong(20);
+		long stringsLength = getLong(28);
+		if (count < 0 || indexOffset != HEADER_SIZE + (long) count * RECORD_SIZE
+				|| stringsOffset != indexOffset + (long) count * (Long.BYTES + Integer.BYTES)
+				|| stringsOffset + stringsLength != length) {
+			throw new IOException("Beschädigtes Task-Archiv (Header passt nicht zur Dateigröße)");
+		}
+	}
+
+	// ------------------------- Schreiben ---------------------------
+
+	/**
+	 * Schreibt die Tasks als Archiv. Die Tasks werden nur einmal durchlaufen
+	 * (z.B. direkt aus TaskCSVHandler.streamTasksFromCSV()::iterator), im Heap bleiben nur die ids.
+	 * Die Strings landen dabei zunächst in einer temporären Datei neben dem Ziel.
+	 * Das Archiv wird wie bei AtomicFiles in eine temporäre Datei geschrieben und erst danach
+	 * atomar über das Ziel verschoben -> bei einem Fehler bleibt ein vorhandenes Archiv unverändert
+	 * (auch für Stores, die es gerade abgebildet haben).
+	 * @param tasks zu speichernde Tasks, ids eindeutig
+	 * @param file Zieldatei (wird ersetzt)
+	 * @throws IllegalArgumentException bei doppelten ids
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public static void write(Iterable<Task> tasks, File file) throws IOException {
+		Path target = file.toPath().toAbsolutePath();
+		Path temp = AtomicFiles.createTempFile(target);
+		Path stringsFile = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".strings");
+
+		try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.READ);
+				FileChannel strings = FileChannel.open(stringsFile, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+
+			ByteBuffer records = ByteBuffer.allocate(BUFFER_SIZE);
+			ByteBuffer stringBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+			long[] stringsLength = {0};
+			long[] ids = new long[1024];
+			int count = 0;
+
+			out.position(HEADER_SIZE);
+			for (Task task : tasks) {
+				if (count == ids.length) ids = Arrays.copyOf(ids, count * 2);
+				ids[count++] = task.getId();
+
+				int flags = (task.isDone() ? FLAG_DONE : 0)
+						| (task.getDescription() != null ? FLAG_DESCRIPTION : 0)
+						| (task.getDueDate() != null ? FLAG_DUE_DATE : 0)
+						| (task.getReminderDate() != null ? FLAG_REMINDER : 0);
+				LocalDateTime reminder = task.getReminderDate();
+
+				if (records.remaining() < RECORD_SIZE) drain(records, out);
+				records.putLong(task.getId())
+						.putLong(task.getCreatedAt().toEpochSecond(ZoneOffset.UTC))
+						.putInt(task.getCreatedAt().getNano())
+						.put((byte) flags)
+						.put((byte) task.getCategory().ordinal())
+						.put((byte) task.getPriority().ordinal())
+						.put((byte) 0)
+						.putInt(task.getDueDate() != null ? Math.toIntExact(task.getDueDate().toEpochDay()) : 0)
+						.putInt(reminder != null ? reminder.getNano() : 0)
+						.putLong(reminder != null ? reminder.toEpochSecond(ZoneOffset.UTC) : 0)
+						.putLong(appendString(task.getTitle(), stringBuffer, strings, stringsLength))
+						.putLong(task.getDescription() != null ? appendString(task.getDescription(), stringBuffer, strings, stringsLength) : 0)
+						.putLong(0);
+			}
+			drain(records, out);
+			drain(stringBuffer, strings);
+
+			long indexOffset = HEADER_SIZE + (long) count * RECORD_SIZE;
+			writeIndex(ids, count, out);
+			long stringsOffset = out.position();
+			for (long done = 0; done < stringsLength[0]; ) {
+				done += strings.transferTo(done, stringsLength[0] - done, out);
+			}
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).put(VERSION).put(new byte[3]).putInt(count)
+					.putLong(indexOffset).putLong(stringsOffset).putLong(stringsLength[0]);
+			header.clear();
+			while (header.hasRemaining()) out.write(header, header.position());
+			out.force(true);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		} finally {
+			Files.deleteIfExists(stringsFile);
+		}
+		try {
+			AtomicFiles.move(temp, target);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		AtomicFiles.syncDirectory(target.getParent());
+	}
+
+	// ------------------------- Öffnen ---------------------------
+
+	/**
+	 * Öffnet ein Archiv nur lesend.
+	 * @throws IOException wenn die Datei kein gültiges Archiv ist
+	 */
+	public static MappedTaskStore openReadOnly(File file) throws IOException {
+		return open(file, false);
+	}
+
+	/**
+	 * Öffnet ein Archiv lesend und schreibend (für setDone).
+	 * @throws IOException wenn die Datei kein gültiges Archiv ist
+	 */
+	public static MappedTaskStore open(File file) throws IOException {
+		return open(file, true);
+	}
+
+	private static MappedTaskStore open(File file, boolean writable) throws IOException {
+		FileChannel channel = writable
+				? FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)
+				: FileChannel.open(file.toPath(), StandardOpenOption.READ);
+		try {
+			return new MappedTaskStore(channel, writable);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	// ------------------------- Zugriff ---------------------------
+
+	/** @return Anzahl der Tasks */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * Sucht die Datensatznummer per Binärsuche im Index (ohne Heap-Struktur).
+	 * @return Datensatznummer oder -1, wenn es keinen Task mit der id gibt
+	 */
+	public int indexOf(long id) {
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			long midId = getLong(indexOffset + (long) mid * Long.BYTES);
+			if (midId < id) low = mid + 1;
+			else if (midId > id) high = mid - 1;
+			else return getInt(indexOffset + (long) count * Long.BYTES + (long) mid * Integer.BYTES);
+		}
+		return -1;
+	}
+
+	/** @return Task mit der id oder null */
+	public Task findById(long id) {
+		int index = indexOf(id);
+		return index < 0 ? null : get(index);
+	}
+
+	/**
+	 * Liest einen Datensatz als neuen Task.
+	 * @param index Datensatznummer (Schreibreihenfolge)
+	 */
+	public Task get(int index) {
+		long record = record(index);
+		int flags = chunk(record).get(offset(record + FLAGS));
+		LocalDateTime createdAt = LocalDateTime.ofEpochSecond(getLong(record + CREATED_SECONDS), getInt(record + CREATED_NANOS), ZoneOffset.UTC);
+		LocalDate dueDate = (flags & FLAG_DUE_DATE) != 0 ? LocalDate.ofEpochDay(getInt(record + DUE_DAY)) : null;
+		LocalDateTime reminderDate = (flags & FLAG_REMINDER) != 0
+				? LocalDateTime.ofEpochSecond(getLong(record + REMINDER_SECONDS), getInt(record + REMINDER_NANOS), ZoneOffset.UTC)
+				: null;
+		String title = readString(getLong(record + TITLE));
+		String description = (flags & FLAG_DESCRIPTION) != 0 ? readString(getLong(record + DESCRIPTION)) : null;
+
+		// Wichtig! ID und Zeitstempel müssen beibehalten werden -> fromCsv()!
+		return Task.fromCsv(getLong(record + ID), createdAt, CATEGORIES[chunk(record).get(offset(record + CATEGORY))],
+				title, description, dueDate, reminderDate, PRIORITIES[chunk(record).get(offset(record + PRIORITY))],
+				(flags & FLAG_DONE) != 0);
+	}
+
+	/** @return id des Datensatzes, ohne einen Task zu erzeugen */
+	public long getId(int index) {
+		return getLong(record(index) + ID);
+	}
+
+	/** @return Erledigt-Status des Datensatzes, ohne einen Task zu erzeugen */
+	public boolean isDone(int index) {
+		long record = record(index);
+		return (chunk(record).get(offset(record + FLAGS)) & FLAG_DONE) != 0;
+	}
+
+	/**
+	 * Ändert den Erledigt-Status direkt in der Datei (Schreiben übernimmt das Betriebssystem, siehe force()).
+	 * @throws java.nio.ReadOnlyBufferException wenn mit openReadOnly() geöffnet
+	 */
+	public void setDone(int index, boolean done) {
+		long record = record(index);
+		MappedByteBuffer chunk = chunk(record);
+		int position = offset(record + FLAGS);
+		int flags = chunk.get(position);
+		chunk.put(position, (byte) (done ? flags | FLAG_DONE : flags & ~FLAG_DONE));
+	}
+
+	/**
+	 * Durchläuft alle Datensätze in Schreibreihenfolge; Tasks werden erst beim Zugriff erzeugt.
+	 */
+	public Stream<Task> stream() {
+		return IntStream.range(0, count).mapToObj(this::get);
+	}
+
+	/** Schreibt Änderungen durch setDone() auf den Datenträger. */
+	public void force() {
+		for (MappedByteBuffer chunk : chunks) {
+			if (!chunk.isReadOnly()) chunk.force();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private long record(int index) {
+		if (index < 0 || index >= count) throw new IndexOutOfBoundsException("Index " + index + ", Größe " + count);
+		return HEADER_SIZE + (long) index * RECORD_SIZE;
+	}
+
+	private MappedByteBuffer chunk(long position) {
+		return chunks[(int) (position / CHUNK_SIZE)];
+	}
+
+	private static int offset(long position) {
+		return (int) (position % CHUNK_SIZE);
+	}
+
+	private long getLong(long position) {
+		return chunk(position).getLong(offset(position));
+	}
+
+	private int getInt(long position) {
+		return chunk(position).getInt(offset(position));
+	}
+
+	/** Liest einen String aus dem Heap; er kann über eine Stückgrenze reichen. */
+	private String readString(long relativeOffset) {
+		long position = stringsOffset + relativeOffset;
+		byte[] length = new byte[Integer.BYTES];
+		readBytes(position, length);
+		byte[] bytes = new byte[ByteBuffer.wrap(length).getInt()];
+		readBytes(position + Integer.BYTES, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private void readBytes(long position, byte[] target) {
+		for (int done = 0; done < target.length; ) {
+			MappedByteBuffer chunk = chunk(position + done);
+			int offset = offset(position + done);
+			int length = Math.min(target.length - done, chunk.limit() - offset);
+			chunk.get(offset, target, done, length);
+			done += length;
+		}
+	}
+
+	/** Hängt den String an den Heap an und liefert seinen Offset. */
+	private static long appendString(String text, ByteBuffer buffer, FileChannel strings, long[] length) throws IOException {
+		long offset = length[0];
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		if (buffer.remaining() < Integer.BYTES) drain(buffer, strings);
+		buffer.putInt(bytes.length);
+		for (int done = 0; done < bytes.length; ) {
+			if (!buffer.hasRemaining()) drain(buffer, strings);
+			int chunk = Math.min(buffer.remaining(), bytes.length - done);
+			buffer.put(bytes, done, chunk);
+			done += chunk;
+		}
+		length[0] += Integer.BYTES + bytes.length;
+		return offset;
+	}
+
+	/** Sortiert die ids samt Datensatznummer und schreibt den Index. */
+	private static void writeIndex(long[] ids, int count, FileChannel out) throws IOException {
+		int[] order = new int[count];
+		boolean sorted = true;
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+			if (i > 0 && ids[i - 1] >= ids[i]) sorted = false;
+		}
+		if (!sorted) {		// meist schon aufsteigend (IDGenerator), sonst über die Positionen sortieren
+			order = IntStream.range(0, count).boxed()
+					.sorted((a, b) -> Long.compare(ids[a], ids[b]))
+					.mapToInt(Integer::intValue).toArray();
+			for (int i = 1; i < count; i++) {
+				if (ids[order[i - 1]] == ids[order[i]]) {
+					throw new IllegalArgumentException("Doppelte Task-id: " + ids[order[i]]);
+				}
+			}
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		for (int i = 0; i < count; i++) {
+			if (buffer.remaining() < Long.BYTES) drain(buffer, out);
+			buffer.putLong(ids[order[i]]);
+		}
+		for (int i = 0; i < count; i++) {
+			if (buffer.remaining() < Integer.BYTES) drain(buffer, out);
+			buffer.putInt(order[i]);
+		}
+		drain(buffer, out);
+	}
+
+	private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) channel.write(buffer);
+		buffer.clear();
+	}
+}
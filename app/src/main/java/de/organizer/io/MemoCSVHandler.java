@@ -0,0 +1,141 @@
+package de.organizer.io;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import de.organizer.model.Memo;
+
+/**
+ * Speichert und lädt Memos als CSV (UTF-8, Trennzeichen ';').
+ * Da Memo-Inhalte Freitext sind, wird nach RFC 4180 gequotet -> ';', '"' und
+ * Zeilenumbrüche im Inhalt bleiben erhalten.
+ */
+public final class MemoCSVHandler {
+
+	private MemoCSVHandler() {
+		// Utility-Klasse darf nicht instanziiert werden
+		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
+	}
+
+	/**
+     * Speichert die Liste von Memos als CSV.
+     * @param memoList Liste der zu speichernden Memos
+     * @param file Zieldatei
+     * @throws IOException wenn beim Schreiben ein Fehler auftritt
+     */
+	public static void saveMemosAsCSV(List<Memo> memoList, File file) throws IOException {
+
+		try(QuotedCSVWriter writer = new QuotedCSVWriter(
+				new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8)), ';')){
+
+			writer.writeRecord(Memo.CSV_HEADER); //Header
+
+			for (Memo memo : memoList) {
+				writer.writeRecord(memo.toCsvRow());
+			}
+		}
+	}
+
+	/**
+     * Liest Memos aus einer CSV-Datei.
+     * @param file Quelldatei
+     * @return Liste der eingelesenen Memos
+     * @throws IOException wenn beim Lesen ein Fehler auftritt
+     */
+	public static List<Memo> loadMemosFromCSV(File file) throws IOException {
+
+		List<Memo> memoList = new ArrayList<>();
+
+		try(QuotedCSVReader reader = new QuotedCSVReader(new FileReader(file, StandardCharsets.UTF_8), ';')){
+
+			reader.readRecord(); //Header überspringen
+
+			String[] data;
+			while ((data = reader.readRecord()) != null) {
+
+				Memo memo = parseMemo(data);
+				if (memo != null) memoList.add(memo);
+			}
+		}
+		return memoList;
+	}
+
+	/**
+     * Liest Memos datensatzweise, ohne die gesamte Liste im Speicher aufzubauen.
+     * Die Datei bleibt geöffnet, bis der Stream geschlossen wird -> Aufruf in try-with-resources!
+     * @param file Quelldatei
+     * @return Stream der eingelesenen Memos (lazy)
+     * @throws IOException wenn die Datei nicht geöffnet oder der Header nicht gelesen werden kann
+     */
+	public static Stream<Memo> streamMemosFromCSV(File file) throws IOException {
+
+		QuotedCSVReader reader = new QuotedCSVReader(new FileReader(file, StandardCharsets.UTF_8), ';');
+
+		try {
+			reader.readRecord(); //Header überspringen
+		} catch (IOException e) {
+			reader.close();
+			throw e;
+		}
+
+		Spliterator<Memo> spliterator = new Spliterators.AbstractSpliterator<Memo>(
+				Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+			@Override
+			public boolean tryAdvance(Consumer<? super Memo> action) {
+				try {
+					String[] data;
+					while ((data = reader.readRecord()) != null) {
+						Memo memo = parseMemo(data);
+						if (memo != null) {
+							action.accept(memo);
+							return true;
+						}
+					}
+					return false;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+
+		return StreamSupport.stream(spliterator, false)
+				.onClose(() -> {
+					try {
+						reader.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+
+	/**
+	 * Wandelt einen Datensatz in ein Memo um.
+	 * @return Memo oder null, wenn der Datensatz unvollständig ist
+	 */
+	private static Memo parseMemo(String[] data) {
+
+		if (data.length != Memo.CSV_HEADER.length) return null; //Sicherheitsabfrage auf Vollständigkeit der Daten
+
+		long          id        = Long.parseLong(data[0]);
+		LocalDateTime createdAt = ISODateParser.parseLocalDateTime(data[1]);
+		String        title     = data[2].isEmpty() ? null : data[2]; // Titel ist optional
+		String        content   = data[3];
+
+		// Wichtig! ID und Zeitstempel müssen beibehalten werden -> fromCsv()!
+		return Memo.fromCsv(id, createdAt, title, content);
+	}
+}
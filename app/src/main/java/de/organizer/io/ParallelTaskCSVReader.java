@@ -0,0 +1,222 @@
+package de.organizer.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import de.organizer.model.Task;
+
+/**
+ * Liest eine Task-CSV parallel ein: Die Datei wird in Byte-Bereiche zerlegt, die jeweils
+ * direkt nach einem '\n' beginnen, jeder Bereich wird gemappt und auf dem ForkJoinPool
+ * mit einem eigenen CSVRowTokenizer geparst. Die Teilergebnisse werden in Dateireihenfolge
+ * zusammengefügt -> identisches Ergebnis wie TaskCSVHandler.loadTasksFromCSV().
+ */
+final class ParallelTaskCSVReader {
+
+	/** Ab dieser Dateigröße lohnt sich die Aufteilung, darunter wird sequentiell gelesen. */
+	static final long PARALLEL_THRESHOLD_BYTES = 1L << 20;
+
+	private static final int CHUNKS_PER_THREAD = 4;				// kleinere Stücke gleichen ungleich schnelle Threads aus
+	private static final long MAX_CHUNK_BYTES = 1L << 30;		// ein Mapping darf höchstens Integer.MAX_VALUE Bytes groß sein
+	private static final int BOUNDARY_SCAN_BYTES = 8192;
+
+	private ParallelTaskCSVReader() {
+		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
+	}
+
+	/**
+	 * Liest die Datei in mehreren Teilen je Thread des Pools.
+	 * @param file Quelldatei
+	 * @param pool Pool, auf dem die Teile geparst werden
+	 * @return Liste der eingelesenen Tasks in Dateireihenfolge
+	 * @throws IOException wenn beim Lesen ein Fehler auftritt
+	 */
+	static List<Task> load(File file, ForkJoinPool pool) throws IOException {
+		return load(file, pool, pool.getParallelism() * CHUNKS_PER_THREAD);
+	}
+
+	/**
+	 * Liest die Datei in chunkCount Teilen auf dem übergebenen Pool.
+	 * @param file Quelldatei
+	 * @param pool Pool, auf dem die Teile geparst werden
+	 * @param chunkCount gewünschte Anzahl der Teile (kann bei kurzen Dateien kleiner ausfallen)
+	 * @return Liste der eingelesenen Tasks in Dateireihenfolge
+	 * @throws IOException wenn beim Lesen ein Fehler auftritt
+	 */
+	static List<Task> load(File file, ForkJoinPool pool, int chunkCount) throws IOException {
+
+		Charset charset = Charset.defaultCharset();
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+
+			long size = channel.size();
+			chunkCount = (int) Math.max(chunkCount, (size + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+			long[] bounds = lineAlignedBounds(channel, size, chunkCount);
+
+			List<ChunkTask> tasks = new ArrayList<>();
+			for (int i = 0; i + 1 < bounds.length; i++) {
+				MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, bounds[i], bounds[i + 1] - bounds[i]);
+				tasks.add(new ChunkTask(chunk, charset, i == 0));
+			}
+
+			List<List<Task>> parts;
+			try {
+				parts = pool.invoke(new MergeTask(tasks));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+
+			int total = 0;
+			for (List<Task> part : parts) total += part.size();
+
+			List<Task> taskList = new ArrayList<>(total);
+			for (List<Task> part : parts) taskList.addAll(part);
+			return taskList;
+		}
+	}
+
+	/**
+	 * Prüft, ob '\n' im Zeichensatz als einzelnes Byte kodiert wird und in keiner
+	 * Mehrbyte-Sequenz vorkommen kann (UTF-8, ISO-8859-x, ASCII ...).
+	 * Nur dann darf an Byte-Grenzen nach '\n' geschnitten werden.
+	 */
+	static boolean supportsByteSplitting(Charset charset) {
+		return Arrays.equals("\n".getBytes(charset), new byte[] {'\n'})
+				&& Arrays.equals("a".getBytes(charset), new byte[] {'a'});
+	}
+
+	/**
+	 * Ermittelt Grenzen, die jeweils direkt hinter einem '\n' liegen.
+	 * @return aufsteigende Offsets, beginnend bei 0 und endend bei size
+	 */
+	private static long[] lineAlignedBounds(FileChannel channel, long size, int chunkCount) throws IOException {
+
+		long[] bounds = new long[chunkCount + 1];
+		int count = 1;
+		long chunkSize = Math.max(1, size / chunkCount);
+		ByteBuffer scanBuffer = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+
+		for (int i = 1; i < chunkCount; i++) {
+			long boundary = nextLineStart(channel, Math.max(i * chunkSize, bounds[count - 1]), size, scanBuffer);
+			if (boundary >= size) break;
+			if (boundary > bounds[count - 1]) bounds[count++] = boundary;
+		}
+		bounds[count++] = size;
+		return Arrays.copyOf(bounds, count);
+	}
+
+	/** Sucht ab from das nächste '\n' und liefert die Position dahinter (oder size). */
+	private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer scanBuffer) throws IOException {
+
+		long position = from;
+		while (position < size) {
+			scanBuffer.clear();
+			int read = channel.read(scanBuffer, position);
+			if (read <= 0) break;
+			for (int i = 0; i < read; i++) {
+				if (scanBuffer.get(i) == '\n') return position + i + 1;
+			}
+			position += read;
+		}
+		return size;
+	}
+
+	// ------------------------- Fork-Join-Tasks ---------------------------
+
+	/** Startet alle Teile gemeinsam und liefert ihre Ergebnisse in Dateireihenfolge. */
+	private static final class MergeTask extends RecursiveTask<List<List<Task>>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<ChunkTask> chunks;
+
+		MergeTask(List<ChunkTask> chunks) {
+			this.chunks = chunks;
+		}
+
+		@Override
+		protected List<List<Task>> compute() {
+			invokeAll(chunks);
+			List<List<Task>> parts = new ArrayList<>(chunks.size());
+			for (ChunkTask chunk : chunks) parts.add(chunk.join());
+			return parts;
+		}
+	}
+
+	/** Parst einen gemappten Byte-Bereich, der am Zeilenanfang beginnt. */
+	private static final class ChunkTask extends RecursiveTask<List<Task>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient ByteBuffer chunk;
+		private final transient Charset charset;
+		private final boolean skipHeader;
+
+		ChunkTask(ByteBuffer chunk, Charset charset, boolean skipHeader) {
+			this.chunk = chunk;
+			this.charset = charset;
+			this.skipHeader = skipHeader;
+		}
+
+		@Override
+		protected List<Task> compute() {
+			List<Task> taskList = new ArrayList<>();
+			InputStream in = new ByteBufferInputStream(chunk);
+
+			try (CSVRowTokenizer tokenizer = new CSVRowTokenizer(new InputStreamReader(in, charset), ';')) {
+
+				if (skipHeader) tokenizer.nextRow(); //Header überspringen
+
+				while (tokenizer.nextRow()) {
+					Task task = TaskCSVHandler.parseTask(tokenizer);
+					if (task != null) taskList.add(task);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return taskList;
+		}
+	}
+
+	/** Minimaler InputStream über einem ByteBuffer (ohne Kopie). */
+	private static final class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (length == 0) return 0;
+			if (!buffer.hasRemaining()) return -1;
+			int count = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
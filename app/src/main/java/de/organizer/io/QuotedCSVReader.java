@@ -0,0 +1,150 @@
+package de.organizer.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Liest CSV-Datensätze nach RFC 4180: Felder in Anführungszeichen dürfen Trennzeichen,
+ * Zeilenumbrüche und verdoppelte Anführungszeichen ("") enthalten.
+ * Es wird immer nur der aktuelle Datensatz im Speicher gehalten, nie die ganze Datei.
+ *
+ * Für Freitext (z.B. Memo-Inhalte). Task-Zeilen ohne Quoting liest CSVRowTokenizer schneller.
+ */
+public final class QuotedCSVReader implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(QuotedCSVReader.class.getName());
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int END_OF_STREAM = -1;
+	private static final int UNTERMINATED = -2;		// Dateiende innerhalb von Anführungszeichen
+
+	private final Reader reader;
+	private final char separator;
+	private final char[] buffer = new char[BUFFER_SIZE];
+	private int position;
+	private int limit;
+
+	private final StringBuilder field = new StringBuilder();
+	private final List<String> fields = new ArrayList<>();
+
+	/**
+	 * @param reader Quelle der CSV-Daten, wird mit close() geschlossen
+	 * @param separator Trennzeichen zwischen den Feldern
+	 */
+	public QuotedCSVReader(Reader reader, char separator) {
+		if (separator == '"' || separator == '\r' || separator == '\n') {
+			throw new IllegalArgumentException("Ungültiges Trennzeichen: " + separator);
+		}
+		this.reader = reader;
+		this.separator = separator;
+	}
+
+	/**
+	 * Liest den nächsten Datensatz (kann sich über mehrere Zeilen erstrecken).
+	 * @return Felder des Datensatzes oder null am Dateiende
+	 * @throws IOException wenn beim Lesen ein Fehler auftritt
+	 */
+	public String[] readRecord() throws IOException {
+
+		int c = read();
+		if (c == END_OF_STREAM) return null;
+
+		fields.clear();
+		while (true) {
+			field.setLength(0);
+
+			if (c == '"') {
+				c = readQuoted();
+				if (c == UNTERMINATED) {
+					LOGGER.warning("Datensatz endet innerhalb eines Feldes in Anführungszeichen und wird verworfen.");
+					return null;
+				}
+			}
+			// unquotierter Teil (bzw. Rest nach dem schließenden Anführungszeichen)
+			if (c != END_OF_STREAM && c != separator && c != '\n' && c != '\r') {
+				field.append((char) c);
+				c = readUnquoted();
+			}
+			fields.add(field.toString());
+
+			if (c == separator) {
+				c = read();
+				continue;
+			}
+			if (c == '\r' && peek() == '\n') read();
+			return fields.toArray(new String[0]);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/**
+	 * Liest ein Feld in Anführungszeichen bis zum schließenden Anführungszeichen.
+	 * @return erstes Zeichen nach dem schließenden Anführungszeichen oder UNTERMINATED
+	 */
+	private int readQuoted() throws IOException {
+		while (true) {
+			int start = position;
+			while (position < limit && buffer[position] != '"') position++;
+			field.append(buffer, start, position - start);
+
+			int c = read();
+			if (c == END_OF_STREAM) return UNTERMINATED;
+			if (c != '"') {					// Pufferende erreicht, nachgeladen
+				field.append((char) c);
+				continue;
+			}
+			int next = read();
+			if (next != '"') return next;	// schließendes Anführungszeichen
+			field.append('"');				// "" -> "
+		}
+	}
+
+	/**
+	 * Hängt Zeichen bis zum nächsten Trennzeichen oder Zeilenende an das Feld an.
+	 * @return das beendende Zeichen oder END_OF_STREAM
+	 */
+	private int readUnquoted() throws IOException {
+		while (true) {
+			int start = position;
+			while (position < limit) {
+				char c = buffer[position];
+				if (c == separator || c == '\n' || c == '\r') break;
+				position++;
+			}
+			field.append(buffer, start, position - start);
+			if (position < limit) return buffer[position++];
+			if (!fill()) return END_OF_STREAM;
+		}
+	}
+
+	private int read() throws IOException {
+		if (position >= limit && !fill()) return END_OF_STREAM;
+		return buffer[position++];
+	}
+
+	private int peek() throws IOException {
+		if (position >= limit && !fill()) return END_OF_STREAM;
+		return buffer[position];
+	}
+
+	private boolean fill() throws IOException {
+		int read;
+		do {
+			read = reader.read(buffer, 0, buffer.length);
+		} while (read == 0);
+		if (read < 0) return false;
+		position = 0;
+		limit = read;
+		return true;
+	}
+}
@@ -0,0 +1,78 @@
+package de.organizer.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Schreibt CSV-Datensätze nach RFC 4180: Felder mit Trennzeichen, Anführungszeichen oder
+ * Zeilenumbrüchen werden in Anführungszeichen gesetzt, enthaltene " werden verdoppelt.
+ * Datensätze enden mit "\r\n". Gegenstück zu QuotedCSVReader.
+ */
+public final class QuotedCSVWriter implements Closeable, Flushable {
+
+	private final Writer writer;
+	private final char separator;
+
+	/**
+	 * @param writer Ziel (sollte gepuffert sein), wird mit close() geschlossen
+	 * @param separator Trennzeichen zwischen den Feldern
+	 */
+	public QuotedCSVWriter(Writer writer, char separator) {
+		if (separator == '"' || separator == '\r' || separator == '\n') {
+			throw new IllegalArgumentException("Ungültiges Trennzeichen: " + separator);
+		}
+		this.writer = writer;
+		this.separator = separator;
+	}
+
+	/**
+	 * Schreibt einen Datensatz. null-Felder werden als leeres Feld geschrieben.
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public void writeRecord(String... fields) throws IOException {
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) writer.write(separator);
+			writeField(fields[i]);
+		}
+		writer.write("\r\n");
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	private void writeField(String value) throws IOException {
+		if (value == null || value.isEmpty()) return;
+		if (!needsQuotes(value)) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		int start = 0;
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) == '"') {
+				writer.write(value, start, i + 1 - start);
+				writer.write('"');	// " -> ""
+				start = i + 1;
+			}
+		}
+		writer.write(value, start, value.length() - start);
+		writer.write('"');
+	}
+
+	private boolean needsQuotes(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == separator || c == '"' || c == '\n' || c == '\r') return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,94 @@
+package de.organizer.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Mit dem JDK verfügbare Kompressionsverfahren.
+ *
+ * <ul>
+ *   <li>{@link #NONE} - unkomprimiert</li>
+ *   <li>{@link #GZIP} - GZIP-Format (.gz), kompatibel mit gzip/zcat</li>
+ *   <li>{@link #DEFLATE} - zlib-Format (.zz), etwas kleinerer Header als GZIP</li>
+ * </ul>
+ */
+public enum StandardCompressionCodec implements CompressionCodec {
+
+	NONE("") {
+		@Override
+		public OutputStream compress(OutputStream out, int level, int bufferSize) {
+			return out;
+		}
+
+		@Override
+		public InputStream decompress(InputStream in, int bufferSize) {
+			return in;
+		}
+	},
+
+	GZIP(".gz") {
+		@Override
+		public OutputStream compress(OutputStream out, int level, int bufferSize) throws IOException {
+			return new GZIPOutputStream(out, bufferSize) {
+				{
+					def.setLevel(level); // Stufe ist bei GZIPOutputStream nur über das geschützte Feld einstellbar
+				}
+			};
+		}
+
+		@Override
+		public InputStream decompress(InputStream in, int bufferSize) throws IOException {
+			return new GZIPInputStream(in, bufferSize);
+		}
+	},
+
+	DEFLATE(".zz") {
+		@Override
+		public OutputStream compress(OutputStream out, int level, int bufferSize) {
+			Deflater deflater = new Deflater(level);
+			return new DeflaterOutputStream(out, deflater, bufferSize) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						deflater.end(); // eigener Deflater wird von DeflaterOutputStream nicht freigegeben
+					}
+				}
+			};
+		}
+
+		@Override
+		public InputStream decompress(InputStream in, int bufferSize) {
+			Inflater inflater = new Inflater();
+			return new InflaterInputStream(in, inflater, bufferSize) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						inflater.end(); // eigener Inflater wird von InflaterInputStream nicht freigegeben
+					}
+				}
+			};
+		}
+	};
+
+	private final String extension;
+
+	StandardCompressionCodec(String extension) {
+		this.extension = extension;
+	}
+
+	@Override
+	public String getExtension() {
+		return extension;
+	}
+}
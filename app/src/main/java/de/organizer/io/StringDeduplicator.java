@@ -0,0 +1,142 @@
+package de.organizer.io;
+
+/**
+ * Begrenzter Pool, der beim Import wiederkehrende Texte (z.B. Titel wie "Einkaufen")
+ * nur einmal als String anlegt. Die Suche läuft direkt über den char-Bereich des
+ * Tokenizers -> für Treffer wird gar kein neuer String erzeugt.
+ *
+ * Gedacht für die Dauer eines Imports: anlegen, an den Loader übergeben, Statistik
+ * auslesen und verwerfen. Nicht thread-sicher.
+ */
+public final class StringDeduplicator {
+
+	/** Standard: höchstens so viele verschiedene Strings im Pool */
+	public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+	/** Standard: längere Texte werden nicht dedupliziert (lange Beschreibungen wiederholen sich selten) */
+	public static final int DEFAULT_MAX_LENGTH = 256;
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	// Geschätzte Objektgrößen (64-Bit-JVM, Compressed Oops, Compact Strings)
+	private static final int STRING_HEADER_BYTES = 24;
+	private static final int ARRAY_HEADER_BYTES = 16;
+
+	private final int maxEntries;
+	private final int maxLength;
+
+	private String[] table = new String[INITIAL_CAPACITY];
+	private int[] hashes = new int[INITIAL_CAPACITY];
+	private int size;
+
+	private long hits;
+	private long misses;
+	private long savedBytes;
+
+	public StringDeduplicator() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * @param maxEntries höchstens so viele verschiedene Strings werden gehalten
+	 * @param maxLength längere Texte werden ohne Pool erzeugt
+	 */
+	public StringDeduplicator(int maxEntries, int maxLength) {
+		if (maxEntries <= 0 || maxLength < 0) throw new IllegalArgumentException("Grenzen müssen positiv sein");
+		this.maxEntries = maxEntries;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Liefert einen String mit dem Inhalt des Bereichs, bei Wiederholung dieselbe Instanz.
+	 */
+	public String deduplicate(char[] chars, int from, int length) {
+		if (length == 0) return "";
+		if (length > maxLength) return new String(chars, from, length);
+
+		int hash = 0;
+		for (int i = from; i < from + length; i++) hash = 31 * hash + chars[i];
+
+		int mask = table.length - 1;
+		int slot = mix(hash) & mask;
+		for (String candidate = table[slot]; candidate != null; candidate = table[slot]) {
+			if (hashes[slot] == hash && matches(candidate, chars, from, length)) {
+				hits++;
+				savedBytes += estimateSize(candidate);
+				return candidate;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		misses++;
+		String value = new String(chars, from, length);
+		if (size < maxEntries) {
+			table[slot] = value;
+			hashes[slot] = hash;
+			if (++size * 2 > table.length) grow();
+		}
+		return value;
+	}
+
+	/**
+	 * Variante für bereits erzeugte Strings (z.B. aus QuotedCSVReader).
+	 * Der übergebene String wird bei einem Treffer durch die Pool-Instanz ersetzt.
+	 */
+	public String deduplicate(String text) {
+		if (text == null) return null;
+		return deduplicate(text.toCharArray(), 0, text.length());
+	}
+
+	/** @return Anzahl der Treffer (wiederverwendete Instanzen) */
+	public long getHits() {return hits;}
+
+	/** @return Anzahl der neu erzeugten Strings */
+	public long getMisses() {return misses;}
+
+	/** @return Anzahl der verschiedenen Strings im Pool */
+	public int size() {return size;}
+
+	/**
+	 * Geschätzter eingesparter Heap: Größe von String-Objekt und byte[] je Treffer
+	 * (64-Bit-JVM mit Compressed Oops und Compact Strings).
+	 */
+	public long getSavedBytes() {return savedBytes;}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private static boolean matches(String candidate, char[] chars, int from, int length) {
+		if (candidate.length() != length) return false;
+		for (int i = 0; i < length; i++) {
+			if (candidate.charAt(i) != chars[from + i]) return false;
+		}
+		return true;
+	}
+
+	/** Streut den String-Hash, damit ähnliche Titel nicht in benachbarten Slots landen. */
+	private static int mix(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	private static long estimateSize(String value) {
+		boolean latin1 = true;
+		for (int i = 0; i < value.length() && latin1; i++) latin1 = value.charAt(i) < 256;
+		long bytes = ARRAY_HEADER_BYTES + (long) value.length() * (latin1 ? 1 : 2);
+		return STRING_HEADER_BYTES + ((bytes + 7) & ~7L);
+	}
+
+	private void grow() {
+		String[] oldTable = table;
+		int[] oldHashes = hashes;
+		table = new String[oldTable.length * 2];
+		hashes = new int[oldTable.length * 2];
+		int mask = table.length - 1;
+
+		for (int i = 0; i < oldTable.length; i++) {
+			if (oldTable[i] == null) continue;
+			int slot = mix(oldHashes[i]) & mask;
+			while (table[slot] != null) slot = (slot + 1) & mask;
+			table[slot] = oldTable[i];
+			hashes[slot] = oldHashes[i];
+		}
+	}
+}
@@ -0,0 +1,234 @@
+package de.organizer.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Speichert und lädt Tasks in einem kompakten Binärformat (verlustfrei, auch null-Beschreibungen).
+ *
+ * Aufbau:
+ * <pre>
+ * Header:  int MAGIC ("OTSK") | byte VERSION | int Anzahl
+ * Task:    long id
+ *          long createdAt-Epochensekunde | int Nanosekunden
+ *          byte Flags (Bit 0 = done, 1 = description, 2 = dueDate, 3 = reminderDate)
+ *          byte Category-Ordinal | byte Priority-Ordinal
+ *          [int dueDate-Epochentag]
+ *          [long reminderDate-Epochensekunde | int Nanosekunden]
+ *          int Länge + UTF-8 title | [int Länge + UTF-8 description]
+ * </pre>
+ * Zeitpunkte werden ohne Zeitzone als UTC-Sekunden abgelegt. Die Ordinals hängen an der
+ * Reihenfolge der Enums -> wird diese geändert, muss VERSION erhöht werden.
+ */
+public final class TaskBinaryHandler {
+
+	/** "OTSK" - Organizer Task Snapshot */
+	public static final int MAGIC = 0x4F54534B;
+
+	/** Aktuelle Formatversion */
+	public static final byte VERSION = 1;
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/** Anzahlen und Längen stammen aus der Datei -> höchstens so viel im Voraus belegen */
+	private static final int MAX_PREALLOCATION = 1 << 16;
+
+	private static final int FLAG_DONE = 1;
+	private static final int FLAG_DESCRIPTION = 1 << 1;
+	private static final int FLAG_DUE_DATE = 1 << 2;
+	private static final int FLAG_REMINDER = 1 << 3;
+
+	// values() kopiert bei jedem Aufruf -> einmalig zwischenspeichern
+	private static final Category[] CATEGORIES = Category.values();
+	private static final Priority[] PRIORITIES = Priority.values();
+
+	private TaskBinaryHandler() {
+		// Utility-Klasse darf nicht instanziiert werden
+		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
+	}
+
+	/**
+	 * Speichert die Liste von Tasks als Binär-Snapshot.
+	 * @param taskList Liste der zu speichernden Tasks
+	 * @param file Zieldatei
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public static void saveTasksAsBinary(List<Task> taskList, File file) throws IOException {
+		try (OutputStream out = new FileOutputStream(file)) {
+			writeTasks(taskList, out);
+		}
+	}
+
+	/**
+	 * Liest Tasks aus einem Binär-Snapshot.
+	 * @param file Quelldatei
+	 * @return Liste der eingelesenen Tasks
+	 * @throws IOException wenn beim Lesen ein Fehler auftritt oder die Datei kein gültiger Snapshot ist
+	 */
+	public static List<Task> loadTasksFromBinary(File file) throws IOException {
+		try (InputStream in = new FileInputStream(file)) {
+			return readTasks(in);
+		}
+	}
+
+	/**
+	 * Speichert die Liste von Tasks als komprimierten Binär-Snapshot.
+	 * @param taskList Liste der zu speichernden Tasks
+	 * @param file Zieldatei
+	 * @param options Verfahren, Stufe und Puffergröße (z.B. CompressionOptions.forFile(file))
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public static void saveTasksAsBinary(List<Task> taskList, File file, CompressionOptions options) throws IOException {
+		try (OutputStream fileOut = new FileOutputStream(file);
+				OutputStream out = options.getCodec().compress(fileOut, options.getLevel(), options.getBufferSize())) {
+			writeTasks(taskList, out);
+		}
+	}
+
+	/**
+	 * Liest Tasks aus einem komprimierten Binär-Snapshot (dekomprimiert beim Lesen).
+	 * @param file Quelldatei
+	 * @param options Verfahren und Puffergröße (z.B. CompressionOptions.forFile(file))
+	 * @return Liste der eingelesenen Tasks
+	 * @throws IOException wenn beim Lesen ein Fehler auftritt oder die Datei kein gültiger Snapshot ist
+	 */
+	public static List<Task> loadTasksFromBinary(File file, CompressionOptions options) throws IOException {
+		try (InputStream fileIn = new FileInputStream(file);
+				InputStream in = options.getCodec().decompress(fileIn, options.getBufferSize())) {
+			return readTasks(in);
+		}
+	}
+
+	/**
+	 * Schreibt den Snapshot in einen beliebigen Stream (z.B. zum Komprimieren).
+	 * Der Stream wird geleert, aber nicht geschlossen.
+	 */
+	public static void writeTasks(List<Task> taskList, OutputStream stream) throws IOException {
+
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+		out.writeInt(MAGIC);
+		out.writeByte(VERSION);
+		out.writeInt(taskList.size());
+
+		for (Task task : taskList) {
+			int flags = (task.isDone() ? FLAG_DONE : 0)
+					| (task.getDescription() != null ? FLAG_DESCRIPTION : 0)
+					| (task.getDueDate() != null ? FLAG_DUE_DATE : 0)
+					| (task.getReminderDate() != null ? FLAG_REMINDER : 0);
+
+			out.writeLong(task.getId());
+			writeDateTime(out, task.getCreatedAt());
+			out.writeByte(flags);
+			out.writeByte(task.getCategory().ordinal());
+			out.writeByte(task.getPriority().ordinal());
+			if (task.getDueDate() != null) out.writeInt((int) task.getDueDate().toEpochDay());
+			if (task.getReminderDate() != null) writeDateTime(out, task.getReminderDate());
+			writeString(out, task.getTitle());
+			if (task.getDescription() != null) writeString(out, task.getDescription());
+		}
+		out.flush();
+	}
+
+	/**
+	 * Liest einen Snapshot aus einem beliebigen Stream (z.B. beim Dekomprimieren).
+	 * Der Stream wird nicht geschlossen.
+	 */
+	public static List<Task> readTasks(InputStream stream) throws IOException {
+
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream, BUFFER_SIZE));
+		if (in.readInt() != MAGIC) throw new IOException("Kein Task-Snapshot (Magic-Nummer fehlt)");
+		byte version = in.readByte();
+		if (version != VERSION) throw new IOException("Nicht unterstützte Snapshot-Version: " + version);
+
+		int count = in.readInt();
+		if (count < 0) throw new IOException("Ungültige Anzahl im Snapshot: " + count);
+		List<Task> taskList = new ArrayList<>(Math.min(count, MAX_PREALLOCATION));
+
+		byte[] scratch = new byte[256];
+		for (int i = 0; i < count; i++) {
+			long id = in.readLong();
+			LocalDateTime createdAt = readDateTime(in);
+			int flags = in.readUnsignedByte();
+			Category category = ordinal(CATEGORIES, in.readUnsignedByte());
+			Priority priority = ordinal(PRIORITIES, in.readUnsignedByte());
+			LocalDate dueDate = (flags & FLAG_DUE_DATE) != 0 ? LocalDate.ofEpochDay(in.readInt()) : null;
+			LocalDateTime reminderDate = (flags & FLAG_REMINDER) != 0 ? readDateTime(in) : null;
+
+			String title = readString(in, scratch);
+			String description = (flags & FLAG_DESCRIPTION) != 0 ? readString(in, scratch) : null;
+
+			// Wichtig! ID und Zeitstempel müssen beibehalten werden -> fromCsv()!
+			taskList.add(Task.fromCsv(id, createdAt, category, title, description, dueDate, reminderDate,
+					priority, (flags & FLAG_DONE) != 0));
+		}
+		return taskList;
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+		out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+		out.writeInt(dateTime.getNano());
+	}
+
+	private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+		long epochSecond = in.readLong();
+		int nano = in.readInt();
+		return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+	}
+
+	private static void writeString(DataOutputStream out, String text) throws IOException {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Liest einen längenpräfixierten UTF-8-String, kurze Strings über einen wiederverwendeten Puffer.
+	 * Lange Strings werden stückweise gelesen und der Puffer wächst erst mit den gelesenen Daten ->
+	 * eine kaputte Länge endet mit EOFException statt OutOfMemoryError.
+	 */
+	private static String readString(DataInputStream in, byte[] scratch) throws IOException {
+		int length = in.readInt();
+		if (length < 0) throw new IOException("Ungültige Stringlänge im Snapshot: " + length);
+		if (length <= scratch.length) {
+			in.readFully(scratch, 0, length);
+			return new String(scratch, 0, length, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[Math.min(length, MAX_PREALLOCATION)];
+		int read = 0;
+		while (read < length) {
+			if (read == bytes.length) bytes = Arrays.copyOf(bytes, (int) Math.min(2L * bytes.length, length));
+			int chunk = bytes.length - read;
+			in.readFully(bytes, read, chunk);
+			read += chunk;
+		}
+		return new String(bytes, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private static <E extends Enum<E>> E ordinal(E[] values, int ordinal) throws IOException {
+		if (ordinal >= values.length) {
+			throw new IOException("Ungültiger Wert im Snapshot für " + values[0].getDeclaringClass().getSimpleName() + ": " + ordinal);
+		}
+		return values[ordinal];
+	}
+}
@@ -0,0 +1,223 @@
+package de.organizer.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import de.organizer.model.Task;
+
+/**
+ * Schreibt Tasks im CSV-Format von TaskCSVHandler direkt als UTF-8 in einen
+ * wiederverwendbaren Direct-ByteBuffer und leert ihn über einen Channel (z.B. FileChannel).
+ * Pro Zeile entstehen weder String[] noch zusammengesetzte Strings:
+ * Zahlen und Datumswerte werden ziffernweise, Texte zeichenweise kodiert.
+ */
+public final class TaskCSVChannelWriter implements Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+	private static final int MAX_FIXED_FIELD_BYTES = 64;		// genug für id, Datumswerte, Enum-Namen und Trennzeichen
+
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer;
+	private final byte[] lineSeparator;
+
+	/**
+	 * @param channel Ziel, muss zum Schreiben geöffnet sein (wird mit close() nicht geschlossen)
+	 */
+	public TaskCSVChannelWriter(WritableByteChannel channel) {
+		this(channel, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * @param channel Ziel, muss zum Schreiben geöffnet sein (wird mit close() nicht geschlossen)
+	 * @param bufferSize Größe des Direct-Buffers in Bytes
+	 */
+	public TaskCSVChannelWriter(WritableByteChannel channel, int bufferSize) {
+		if (bufferSize < MAX_FIXED_FIELD_BYTES) {
+			throw new IllegalArgumentException("Puffergröße muss mindestens " + MAX_FIXED_FIELD_BYTES + " Bytes betragen");
+		}
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+		// gleiche Zeilenenden wie BufferedWriter.newLine() in saveTasksAsCSV()
+		this.lineSeparator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Schreibt die Kopfzeile (Task.CSV_HEADER).
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public void writeHeader() throws IOException {
+		for (int i = 0; i < Task.CSV_HEADER.length; i++) {
+			if (i > 0) putSeparator();
+			putText(Task.CSV_HEADER[i]);
+		}
+		putLineSeparator();
+	}
+
+	/**
+	 * Schreibt einen Task als Zeile in der Reihenfolge von Task.CSV_HEADER.
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public void write(Task task) throws IOException {
+		ensureRemaining(MAX_FIXED_FIELD_BYTES);
+		putLong(task.getId());
+		putSeparator();
+		putDateTime(task.getCreatedAt());
+		putSeparator();
+		putText(task.getCategory().name());
+		putSeparator();
+		putText(task.getTitle());
+		putSeparator();
+		if (task.getDescription() != null) putText(task.getDescription());
+		putSeparator();
+		ensureRemaining(MAX_FIXED_FIELD_BYTES);
+		if (task.getDueDate() != null) putDate(task.getDueDate());
+		putSeparator();
+		if (task.getReminderDate() != null) putDateTime(task.getReminderDate());
+		putSeparator();
+		putText(task.getPriority().name());
+		putSeparator();
+		putText(task.isDone() ? "true" : "false");
+		putLineSeparator();
+	}
+
+	/**
+	 * Schreibt den Pufferinhalt in den Channel.
+	 * @throws IOException wenn beim Schreiben ein Fehler auftritt
+	 */
+	public void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Leert den Puffer. Der Channel bleibt geöffnet, damit der Aufrufer z.B. noch force() aufrufen kann.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+	}
+
+	// ------------------------- Kodierung ---------------------------
+
+	private void ensureRemaining(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) flush();
+	}
+
+	private void putSeparator() throws IOException {
+		ensureRemaining(1);
+		buffer.put((byte) ';');
+	}
+
+	private void putLineSeparator() throws IOException {
+		ensureRemaining(lineSeparator.length);
+		buffer.put(lineSeparator);
+	}
+
+	/** Kodiert einen Text als UTF-8, ungültige Surrogate werden wie beim JDK-Encoder zu '?'. */
+	private void putText(String text) throws IOException {
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			if (buffer.remaining() < 4) flush();
+			char c = text.charAt(i);
+
+			if (c < 0x80) {
+				buffer.put((byte) c);
+			} else if (c < 0x800) {
+				buffer.put((byte) (0xC0 | (c >> 6)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, text.charAt(++i));
+				buffer.put((byte) (0xF0 | (codePoint >> 18)));
+				buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				buffer.put((byte) '?');
+			} else {
+				buffer.put((byte) (0xE0 | (c >> 12)));
+				buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+
+	/** Schreibt eine Zahl wie String.valueOf(long). */
+	private void putLong(long value) throws IOException {
+		if (value == Long.MIN_VALUE) {
+			putText(String.valueOf(value));
+			return;
+		}
+		if (value < 0) {
+			buffer.put((byte) '-');
+			value = -value;
+		}
+		long divisor = 1;
+		while (divisor <= value / 10) divisor *= 10;
+		while (divisor > 0) {
+			buffer.put((byte) ('0' + value / divisor % 10));
+			divisor /= 10;
+		}
+	}
+
+	/** Schreibt ein Datum wie LocalDate.toString() (Jahre außerhalb 0..9999 über toString()). */
+	private void putDate(LocalDate date) throws IOException {
+		int year = date.getYear();
+		if (year < 0 || year > 9999) {
+			putText(date.toString());
+			return;
+		}
+		putDigits(year, 4);
+		buffer.put((byte) '-');
+		putDigits(date.getMonthValue(), 2);
+		buffer.put((byte) '-');
+		putDigits(date.getDayOfMonth(), 2);
+	}
+
+	/** Schreibt Datum und Uhrzeit wie LocalDateTime.toString(). */
+	private void putDateTime(LocalDateTime dateTime) throws IOException {
+		if (dateTime.getYear() < 0 || dateTime.getYear() > 9999) {
+			putText(dateTime.toString());
+			return;
+		}
+		putDate(dateTime.toLocalDate());
+		buffer.put((byte) 'T');
+		putDigits(dateTime.getHour(), 2);
+		buffer.put((byte) ':');
+		putDigits(dateTime.getMinute(), 2);
+
+		int second = dateTime.getSecond();
+		int nano = dateTime.getNano();
+		if (second > 0 || nano > 0) {
+			buffer.put((byte) ':');
+			putDigits(second, 2);
+			if (nano > 0) {
+				buffer.put((byte) '.');
+				if (nano % 1_000_000 == 0) {
+					putDigits(nano / 1_000_000, 3);
+				} else if (nano % 1_000 == 0) {
+					putDigits(nano / 1_000, 6);
+				} else {
+					putDigits(nano, 9);
+				}
+			}
+		}
+	}
+
+	/** Schreibt value mit führenden Nullen auf genau count Stellen. */
+	private void putDigits(int value, int count) {
+		int divisor = 1;
+		for (int i = 1; i < count; i++) divisor *= 10;
+		while (divisor > 0) {
+			buffer.put((byte) ('0' + value / divisor % 10));
+			divisor /= 10;
+		}
+	}
+}
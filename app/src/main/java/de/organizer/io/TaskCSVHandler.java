@@ -1,15 +1,32 @@
 package de.organizer.io;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import de.organizer.model.Task;
 import de.organizer.util.Category;
@@ -17,6 +34,10 @@ import de.organizer.util.Priority;
 
 public final class TaskCSVHandler {
 	
+	// values() kopiert bei jedem Aufruf -> einmalig zwischenspeichern
+	private static final Category[] CATEGORIES = Category.values();
+	private static final Priority[] PRIORITIES = Priority.values();
+	
 	private TaskCSVHandler() {
 		// Utility-Klasse darf nicht instanziiert werden
 		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
@@ -43,40 +64,289 @@ public final class TaskCSVHandler {
 	}
 		
 	/**
-     * Liest Tasks aus einer CSV-Datei.
+     * Speichert die Liste von Tasks als UTF-8-CSV über einen FileChannel.
+     * Gleiches Format wie saveTasksAsCSV(), aber ohne String[]/String.join() pro Zeile.
+     * Einlesen mit loadTasksFromCSV(file, StandardCharsets.UTF_8).
+     * @param taskList Liste der zu speichernden Tasks
+     * @param file Zieldatei
+     * @throws IOException wenn beim Schreiben ein Fehler auftritt
+     */
+	public static void saveTasksAsUTF8CSV(List<Task> taskList, File file) throws IOException {
+		
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+			
+			TaskCSVChannelWriter writer = new TaskCSVChannelWriter(channel);
+			writer.writeHeader();
+			
+			for (Task task : taskList) {
+				writer.write(task);
+			}
+			writer.flush();
+		}
+	}
+		
+	/**
+     * Liest Tasks aus einer CSV-Datei (Standard-Zeichensatz der Plattform).
      * @param file Quelldatei
      * @return Liste der eingelesenen Tasks
      * @throws IOException wenn beim Lesen ein Fehler auftritt
      */
 	public static List<Task> loadTasksFromCSV(File file) throws IOException {
+		return loadTasksFromCSV(file, Charset.defaultCharset());
+	}
+	
+	/**
+     * Liest Tasks aus einer CSV-Datei im angegebenen Zeichensatz.
+     * @param file Quelldatei
+     * @param charset Zeichensatz der Datei
+     * @return Liste der eingelesenen Tasks
+     * @throws IOException wenn beim Lesen ein Fehler auftritt
+     */
+	public static List<Task> loadTasksFromCSV(File file, Charset charset) throws IOException {
+		return readTasks(new FileReader(file, charset), null);
+	}
+	
+	/**
+     * Liest Tasks aus einer CSV-Datei und legt wiederkehrende Titel/Beschreibungen nur einmal an.
+     * Der Pool wird nur während des Imports benutzt -> danach Statistik auslesen und verwerfen.
+     * @param file Quelldatei
+     * @param charset Zeichensatz der Datei
+     * @param pool Pool für Titel und Beschreibungen (z.B. new StringDeduplicator())
+     * @return Liste der eingelesenen Tasks
+     * @throws IOException wenn beim Lesen ein Fehler auftritt
+     */
+	public static List<Task> loadTasksFromCSV(File file, Charset charset, StringDeduplicator pool) throws IOException {
+		return readTasks(new FileReader(file, charset), pool);
+	}
+	
+	/**
+     * Speichert die Liste von Tasks als komprimierte UTF-8-CSV.
+     * @param taskList Liste der zu speichernden Tasks
+     * @param file Zieldatei
+     * @param options Verfahren, Stufe und Puffergröße (z.B. CompressionOptions.forFile(file))
+     * @throws IOException wenn beim Schreiben ein Fehler auftritt
+     */
+	public static void saveTasksAsCSV(List<Task> taskList, File file, CompressionOptions options) throws IOException {
+		
+		try(OutputStream fileOut = new FileOutputStream(file);
+				OutputStream out = options.getCodec().compress(fileOut, options.getLevel(), options.getBufferSize())){
+			
+			TaskCSVChannelWriter writer = new TaskCSVChannelWriter(Channels.newChannel(out), options.getBufferSize());
+			writer.writeHeader();
+			
+			for (Task task : taskList) {
+				writer.write(task);
+			}
+			writer.flush();
+		}
+	}
+	
+	/**
+     * Liest Tasks aus einer komprimierten UTF-8-CSV. Es wird beim Lesen dekomprimiert,
+     * der Speicherbedarf hängt also nicht von der Dateigröße ab.
+     * @param file Quelldatei
+     * @param options Verfahren und Puffergröße (z.B. CompressionOptions.forFile(file))
+     * @return Liste der eingelesenen Tasks
+     * @throws IOException wenn beim Lesen ein Fehler auftritt
+     */
+	public static List<Task> loadTasksFromCSV(File file, CompressionOptions options) throws IOException {
+		return readTasks(openCompressedReader(file, options), null);
+	}
+	
+	/**
+     * Liest alle Tasks aus einem Reader und schließt ihn.
+     * @param pool Pool für Titel und Beschreibungen oder null
+     */
+	private static List<Task> readTasks(Reader reader, StringDeduplicator pool) throws IOException {
 		
 		List<Task> taskList = new ArrayList<>();
 		
-		try(BufferedReader reader = new BufferedReader(new FileReader(file))){
+		try(CSVRowTokenizer tokenizer = new CSVRowTokenizer(reader, ';')){
 			
-			String line = reader.readLine(); //Header überspringen
+			tokenizer.nextRow(); //Header überspringen
 			
-			while ((line = reader.readLine()) != null) {
-				
-				String[] data = line.split(";");
-				if (data.length != Task.CSV_HEADER.length) continue; //Sicherheitsabfrage auf Vollständigkeit der Daten
-				
-				long    id           		= Long.parseLong(data[0]);
-				LocalDateTime createdAt		= LocalDateTime.parse(data[1]);
-	            Category  category   		= Category.valueOf(data[2]);
-                String  title        		= data[3];
-                String  description 		= data[4];
-                LocalDate dueDate    		= data[5].isEmpty() ? null : LocalDate.parse(data[5]);
-                LocalDateTime reminderDate  = data[6].isEmpty() ? null : LocalDateTime.parse(data[6]);
-                Priority priority    		= Priority.valueOf(data[7]);
-                boolean done        		= Boolean.parseBoolean(data[8]);
+			while (tokenizer.nextRow()) {
 				
-                // Wichtig! ID und Zeitstempel müssen beibehalten werden -> fromCsv()!
-                Task task = Task.fromCsv(id, createdAt, category, title,description, dueDate, reminderDate, priority, done);   
-                taskList.add(task);
+				Task task = parseTask(tokenizer, 0, pool);
+				if (task != null) taskList.add(task);
 			}
 		}		
 		return taskList;
 	}
 	
+	/**
+     * Liest Tasks aus einer CSV-Datei parallel auf dem Common-ForkJoinPool.
+     * Ergebnis und Reihenfolge entsprechen exakt loadTasksFromCSV().
+     * Kleine Dateien und Zeichensätze, in denen '\n' kein Einzelbyte ist, werden sequentiell gelesen.
+     * @param file Quelldatei
+     * @return Liste der eingelesenen Tasks
+     * @throws IOException wenn beim Lesen ein Fehler auftritt
+     */
+	public static List<Task> loadTasksFromCSVParallel(File file) throws IOException {
+		return loadTasksFromCSVParallel(file, ForkJoinPool.commonPool());
+	}
+	
+	/**
+     * Liest Tasks aus einer CSV-Datei parallel auf dem übergebenen Pool.
+     * @param file Quelldatei
+     * @param pool Pool, auf dem die Dateiabschnitte geparst werden
+     * @return Liste der eingelesenen Tasks
+     * @throws IOException wenn beim Lesen ein Fehler auftritt
+     */
+	public static List<Task> loadTasksFromCSVParallel(File file, ForkJoinPool pool) throws IOException {
+		
+		if (file.length() < ParallelTaskCSVReader.PARALLEL_THRESHOLD_BYTES || pool.getParallelism() < 2
+				|| !ParallelTaskCSVReader.supportsByteSplitting(Charset.defaultCharset())) {
+			return loadTasksFromCSV(file);
+		}
+		return ParallelTaskCSVReader.load(file, pool);
+	}
+	
+	/**
+     * Liest Tasks zeilenweise aus einer CSV-Datei, ohne die gesamte Liste im Speicher aufzubauen.
+     * Die Datei bleibt geöffnet, bis der Stream geschlossen wird -> Aufruf in try-with-resources!
+     * Unvollständige Zeilen werden wie in loadTasksFromCSV() übersprungen.
+     * @param file Quelldatei
+     * @return Stream der eingelesenen Tasks (lazy)
+     * @throws IOException wenn die Datei nicht geöffnet oder der Header nicht gelesen werden kann
+     */
+	public static Stream<Task> streamTasksFromCSV(File file) throws IOException {
+		return streamTasks(new FileReader(file));
+	}
+	
+	/**
+     * Liest Tasks zeilenweise aus einer komprimierten UTF-8-CSV (siehe streamTasksFromCSV(File)).
+     * @param file Quelldatei
+     * @param options Verfahren und Puffergröße (z.B. CompressionOptions.forFile(file))
+     * @return Stream der eingelesenen Tasks (lazy)
+     * @throws IOException wenn die Datei nicht geöffnet oder der Header nicht gelesen werden kann
+     */
+	public static Stream<Task> streamTasksFromCSV(File file, CompressionOptions options) throws IOException {
+		return streamTasks(openCompressedReader(file, options));
+	}
+	
+	/**
+     * Liefert einen Stream über alle Tasks, der beim Schließen den Reader schließt.
+     */
+	private static Stream<Task> streamTasks(Reader reader) throws IOException {
+		
+		CSVRowTokenizer tokenizer = new CSVRowTokenizer(reader, ';');
+		
+		try {
+			tokenizer.nextRow(); //Header überspringen
+		} catch (IOException e) {
+			tokenizer.close();
+			throw e;
+		}
+		
+		Spliterator<Task> spliterator = new Spliterators.AbstractSpliterator<Task>(
+				Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+			
+			@Override
+			public boolean tryAdvance(Consumer<? super Task> action) {
+				try {
+					while (tokenizer.nextRow()) {
+						Task task = parseTask(tokenizer);
+						if (task != null) {
+							action.accept(task);
+							return true;
+						}
+					}
+					return false;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+		
+		return StreamSupport.stream(spliterator, false)
+				.onClose(() -> {
+					try {
+						tokenizer.close();
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+	}
+	
+	/**
+	 * Öffnet einen dekomprimierenden UTF-8-Reader; schließt die Datei, falls das Verfahren scheitert.
+	 */
+	private static Reader openCompressedReader(File file, CompressionOptions options) throws IOException {
+		
+		InputStream in = new FileInputStream(file);
+		try {
+			return new InputStreamReader(options.getCodec().decompress(in, options.getBufferSize()), StandardCharsets.UTF_8);
+		} catch (IOException | RuntimeException e) {
+			in.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Wandelt die aktuelle Zeile des Tokenizers in einen Task um.
+	 * @param row Tokenizer, der auf der zu lesenden Zeile steht
+	 * @return Task oder null, wenn die Zeile unvollständig ist
+	 */
+	static Task parseTask(CSVRowTokenizer row) {
+		return parseTask(row, 0);
+	}
+	
+	/**
+	 * Wandelt die Felder ab offset in einen Task um (z.B. hinter einem Satztyp im Journal).
+	 * @param row Tokenizer, der auf der zu lesenden Zeile steht
+	 * @param offset Index des id-Feldes
+	 * @return Task oder null, wenn die Zeile unvollständig ist
+	 */
+	static Task parseTask(CSVRowTokenizer row, int offset) {
+		return parseTask(row, offset, null);
+	}
+	
+	/**
+	 * Wandelt die Felder eines bereits zerlegten Datensatzes (z.B. von QuotedCSVReader) ab offset in einen Task um.
+	 * @param data Felder des Datensatzes
+	 * @param offset Index des id-Feldes
+	 * @return Task oder null, wenn der Datensatz unvollständig ist
+	 */
+	static Task parseTask(String[] data, int offset) {
+		
+		if (data.length - offset != Task.CSV_HEADER.length) return null; //Sicherheitsabfrage auf Vollständigkeit der Daten
+		
+		long    id           		= Long.parseLong(data[offset]);
+		LocalDateTime createdAt		= ISODateParser.parseLocalDateTime(data[offset + 1]);
+        Category  category   		= Category.valueOf(data[offset + 2]);
+        String  title        		= data[offset + 3];
+        String  description 		= data[offset + 4];
+        LocalDate dueDate    		= data[offset + 5].isEmpty() ? null : LocalDate.parse(data[offset + 5]);
+        LocalDateTime reminderDate  = data[offset + 6].isEmpty() ? null : ISODateParser.parseLocalDateTime(data[offset + 6]);
+        Priority priority    		= Priority.valueOf(data[offset + 7]);
+        boolean done        		= Boolean.parseBoolean(data[offset + 8]);
+		
+        // Wichtig! ID und Zeitstempel müssen beibehalten werden -> fromCsv()!
+        return Task.fromCsv(id, createdAt, category, title, description, dueDate, reminderDate, priority, done);
+	}
+	
+	/**
+	 * Wandelt die Felder ab offset in einen Task um, Titel und Beschreibung über den Pool.
+	 * @param pool Pool für Titel und Beschreibungen, null = ohne Deduplizierung
+	 */
+	static Task parseTask(CSVRowTokenizer row, int offset, StringDeduplicator pool) {
+		
+		if (row.fieldCount() - offset != Task.CSV_HEADER.length) return null; //Sicherheitsabfrage auf Vollständigkeit der Daten
+		
+		long    id           		= row.getLong(offset);
+		LocalDateTime createdAt		= row.getLocalDateTime(offset + 1);
+        Category  category   		= row.getEnum(offset + 2, CATEGORIES);
+        String  title        		= row.getString(offset + 3, pool);
+        String  description 		= row.getString(offset + 4, pool);
+        LocalDate dueDate    		= row.isEmpty(offset + 5) ? null : row.getLocalDate(offset + 5);
+        LocalDateTime reminderDate  = row.isEmpty(offset + 6) ? null : row.getLocalDateTime(offset + 6);
+        Priority priority    		= row.getEnum(offset + 7, PRIORITIES);
+        boolean done        		= row.getBoolean(offset + 8);
+		
+        // Wichtig! ID und Zeitstempel müssen beibehalten werden -> fromCsv()!
+        return Task.fromCsv(id, createdAt, category, title,description, dueDate, reminderDate, priority, done);
+	}
+	
 }
\ No newline at end of file
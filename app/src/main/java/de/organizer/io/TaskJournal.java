@@ -0,0 +1,380 @@
+package de.organizer.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.organizer.model.Task;
+import de.organizer.util.AtomicFiles;
+
+/**
+ * Append-only-Journal für Task-Änderungen. Statt bei jeder Änderung die komplette Liste
+ * neu zu schreiben, wird nur ein kurzer Satz (CREATE, UPDATE, DONE, DELETE) an die
+ * Journal-Datei angehängt. Beim Öffnen wird der letzte CSV-Snapshot geladen und das
+ * Journal darauf angewendet.
+ *
+ * Überschreitet das Journal compactionThresholdBytes, schreibt ein Hintergrund-Thread
+ * einen neuen Snapshot und kürzt das Journal auf die seitdem angehängten Sätze.
+ * Alle Sätze setzen einen Zustand (statt ihn zu verändern) -> mehrfaches Anwenden ist
+ * unschädlich, ein Absturz während der Kompaktierung verliert nichts.
+ *
+ * Journal-Sätze und Snapshot sind CSV wie bei QuotedCSVWriter (';', Felder mit Zeilenumbruch oder ';' gequotet),
+ * damit Titel und Beschreibungen mit diesen Zeichen auch die Kompaktierung unverändert überstehen.
+ *
+ * Dateien: Snapshot als UTF-8-CSV mit Kopfzeile (atomar ersetzt, siehe AtomicFiles), Journal unter snapshot + ".journal".
+ */
+public class TaskJournal implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(TaskJournal.class.getName());
+
+	/** Standard-Schwelle für die Kompaktierung: 1 MiB Journal */
+	public static final long DEFAULT_COMPACTION_THRESHOLD = 1L << 20;
+
+	/** Satztypen im Journal (erstes Feld jeder Zeile). */
+	enum RecordType { CREATE, UPDATE, DONE, DELETE }
+
+	private final File snapshotFile;
+	private final Path journalPath;
+	private final FsyncPolicy policy;
+	private final long compactionThresholdBytes;
+	private final ExecutorService compactor;
+
+	private final Map<Long, Task> tasks = new LinkedHashMap<>();	// aktueller Stand in Einfügereihenfolge
+	private FileChannel journal;
+	private long lastSyncNanos;
+	private boolean compacting;
+	private boolean compactionScheduled;	// Hintergrund-Kompaktierung bereits eingereiht
+
+	private TaskJournal(File snapshotFile, FsyncPolicy policy, long compactionThresholdBytes) {
+		this.snapshotFile = snapshotFile;
+		this.journalPath = journalFileFor(snapshotFile).toPath();
+		this.policy = policy;
+		this.compactionThresholdBytes = compactionThresholdBytes;
+		this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "TaskJournal-Compactor");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Öffnet das Journal mit Standardwerten (kein fsync, 1 MiB Schwelle).
+	 * @param snapshotFile CSV-Snapshot (darf noch nicht existieren)
+	 */
+	public static TaskJournal open(File snapshotFile) throws IOException {
+		return open(snapshotFile, FsyncPolicy.NEVER, DEFAULT_COMPACTION_THRESHOLD);
+	}
+
+	/**
+	 * Lädt den Snapshot, wendet das Journal an und öffnet es zum Anhängen.
+	 * Ein unvollständiger letzter Satz (Absturz beim Schreiben) wird abgeschnitten.
+	 * @param snapshotFile CSV-Snapshot (darf noch nicht existieren)
+	 * @param policy wann angehängte Sätze mit fsync gesichert werden (BATCHED: höchstens 1x pro Sekunde)
+	 * @param compactionThresholdBytes Journalgröße, ab der im Hintergrund kompaktiert wird
+	 * @return geöffnetes Journal
+	 * @throws IOException wenn Snapshot oder Journal nicht gelesen werden können
+	 */
+	public static TaskJournal open(File snapshotFile, FsyncPolicy policy, long compactionThresholdBytes) throws IOException {
+
+		TaskJournal taskJournal = new TaskJournal(snapshotFile, policy, compactionThresholdBytes);
+
+		if (snapshotFile.exists()) taskJournal.loadSnapshot();
+		taskJournal.journal = FileChannel.open(taskJournal.journalPath,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			taskJournal.replay();
+		} catch (IOException | RuntimeException e) {
+			taskJournal.journal.close();
+			throw e;
+		}
+		return taskJournal;
+	}
+
+	/** @return Pfad der Journal-Datei zu einem Snapshot */
+	public static File journalFileFor(File snapshotFile) {
+		return new File(snapshotFile.getPath() + ".journal");
+	}
+
+	// ------------------------- Änderungen ---------------------------
+
+	/** Protokolliert eine neu angelegte Aufgabe. */
+	public synchronized void recordCreate(Task task) throws IOException {
+		append(RecordType.CREATE, task.toCsvRow());
+		tasks.put(task.getId(), task);
+	}
+
+	/** Protokolliert eine geänderte Aufgabe (ersetzt den Stand mit gleicher ID). */
+	public synchronized void recordUpdate(Task task) throws IOException {
+		append(RecordType.UPDATE, task.toCsvRow());
+		tasks.put(task.getId(), task);
+	}
+
+	/** Protokolliert den aktuellen Erledigt-Status, z.B. nach Task.toggleDone(). */
+	public synchronized void recordDone(Task task) throws IOException {
+		append(RecordType.DONE, String.valueOf(task.getId()), String.valueOf(task.isDone()));
+		tasks.put(task.getId(), task);
+	}
+
+	/** Protokolliert das Löschen einer Aufgabe. */
+	public synchronized void recordDelete(long id) throws IOException {
+		append(RecordType.DELETE, String.valueOf(id));
+		tasks.remove(id);
+	}
+
+	/** @return aktueller Stand aller Aufgaben in Einfügereihenfolge (Kopie der Liste) */
+	public synchronized List<Task> getTasks() {
+		return new ArrayList<>(tasks.values());
+	}
+
+	/** @return aktuelle Größe der Journal-Datei in Bytes */
+	public synchronized long getJournalSize() throws IOException {
+		return journal.size();
+	}
+
+	// ------------------------- Kompaktierung ---------------------------
+
+	/**
+	 * Schreibt sofort einen neuen Snapshot und kürzt das Journal.
+	 * Änderungen während des Schreibens bleiben im Journal erhalten.
+	 * @throws IOException wenn Snapshot oder Journal nicht geschrieben werden können
+	 */
+	public void compact() throws IOException {
+
+		List<Task> copy;
+		long mark;
+		synchronized (this) {
+			if (compacting) return;
+			compacting = true;
+			copy = new ArrayList<>(tasks.size());
+			for (Task task : tasks.values()) copy.add(copyOf(task)); // Tasks sind veränderlich (done)
+			mark = journal.size();
+		}
+
+		try {
+			writeSnapshot(copy); // ohne Sperre -> Änderungen laufen weiter
+			synchronized (this) {
+				truncateJournalBefore(mark);
+			}
+		} finally {
+			synchronized (this) {
+				compacting = false;
+			}
+		}
+	}
+
+	/**
+	 * Wartet auf eine laufende Kompaktierung und schließt das Journal.
+	 */
+	@Override
+	public void close() throws IOException {
+		compactor.shutdown();
+		try {
+			compactor.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (this) {
+			if (policy != FsyncPolicy.NEVER) journal.force(false);
+			journal.close();
+		}
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/** Hängt einen Satz an; Felder mit ';', '"' oder Zeilenumbruch werden wie bei QuotedCSVWriter gequotet. */
+	private void append(RecordType type, String... fields) throws IOException {
+
+		StringWriter line = new StringWriter();
+		try (QuotedCSVWriter writer = new QuotedCSVWriter(line, ';')) {
+			String[] record = new String[fields.length + 1];
+			record[0] = type.name();
+			System.arraycopy(fields, 0, record, 1, fields.length);
+			writer.writeRecord(record);
+		}
+		byte[] record = line.toString().getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.wrap(record);
+		long position = journal.size();
+		while (buffer.hasRemaining()) {
+			position += journal.write(buffer, position);
+		}
+
+		long now = System.nanoTime();
+		if (policy == FsyncPolicy.ALWAYS
+				|| (policy == FsyncPolicy.BATCHED && now - lastSyncNanos >= TimeUnit.SECONDS.toNanos(1))) {
+			journal.force(false);
+			lastSyncNanos = now;
+		}
+
+		if (position >= compactionThresholdBytes && !compacting && !compactionScheduled && !compactor.isShutdown()) {
+			compactionScheduled = true;
+			compactor.execute(() -> {
+				try {
+					compactIfStillLarge();
+				} catch (IOException | RuntimeException e) {
+					LOGGER.log(Level.SEVERE, "Kompaktierung des Journals fehlgeschlagen: " + journalPath, e);
+				}
+			});
+		}
+	}
+
+	/** Hintergrund-Kompaktierung: entfällt, wenn das Journal inzwischen schon gekürzt wurde. */
+	private void compactIfStillLarge() throws IOException {
+		synchronized (this) {
+			compactionScheduled = false;
+			if (!journal.isOpen() || journal.size() < compactionThresholdBytes) return;
+		}
+		compact();
+	}
+
+	/** Schreibt den Snapshot gequotet wie die Journal-Sätze und ersetzt die Datei atomar. */
+	private void writeSnapshot(List<Task> snapshot) throws IOException {
+		AtomicFiles.write(snapshotFile.toPath(), policy != FsyncPolicy.NEVER, channel -> {
+			QuotedCSVWriter writer = new QuotedCSVWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), ';');
+			writer.writeRecord(Task.CSV_HEADER);
+			for (Task task : snapshot) {
+				writer.writeRecord(task.toCsvRow());
+			}
+			writer.flush();	// nicht schließen: AtomicFiles sichert und schließt den Kanal
+		});
+	}
+
+	/** Lädt den Snapshot; fehlerhafte Zeilen werden protokolliert und übersprungen. */
+	private void loadSnapshot() throws IOException {
+		try (QuotedCSVReader reader = new QuotedCSVReader(
+				new InputStreamReader(Files.newInputStream(snapshotFile.toPath()), StandardCharsets.UTF_8), ';')) {
+			reader.readRecord(); // Kopfzeile
+			String[] record;
+			int recordNum = 1;
+			while ((record = reader.readRecord()) != null) {
+				recordNum++;
+				if (record.length < 2) continue;
+				try {
+					Task task = TaskCSVHandler.parseTask(record, 0);
+					if (task == null) throw new IllegalArgumentException("Unvollständige Zeile mit " + record.length + " Feldern");
+					tasks.put(task.getId(), task);
+				} catch (IllegalArgumentException | DateTimeParseException e) {
+					LOGGER.log(Level.WARNING, "Fehlerhafte Zeile " + recordNum + " im Snapshot wird übersprungen: " + snapshotFile, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Schneidet einen unvollständigen letzten Satz ab und wendet alle Sätze an.
+	 * Unbekannte oder fehlerhafte Sätze werden protokolliert und übersprungen.
+	 */
+	private void replay() throws IOException {
+
+		long validLength = lastRecordEnd(journal);
+		if (validLength < journal.size()) {
+			LOGGER.warning("Unvollständiger Satz am Ende des Journals wird verworfen: " + journalPath);
+			journal.truncate(validLength);
+		}
+
+		journal.position(0);
+		QuotedCSVReader reader = new QuotedCSVReader(
+				new InputStreamReader(Channels.newInputStream(journal), StandardCharsets.UTF_8), ';');
+		String[] record;
+		int recordNum = 0;
+		while ((record = reader.readRecord()) != null) {
+			recordNum++;
+			if (record.length < 2) continue;
+			try {
+				apply(record);
+			} catch (IllegalArgumentException | DateTimeParseException e) {	// auch NumberFormatException
+				LOGGER.log(Level.WARNING, "Fehlerhafter Satz " + recordNum + " im Journal wird übersprungen: " + journalPath, e);
+			}
+		}
+	}
+
+	private void apply(String[] record) {
+		switch (RecordType.valueOf(record[0])) {
+			case CREATE:
+			case UPDATE:
+				Task task = TaskCSVHandler.parseTask(record, 1);
+				if (task == null) throw new IllegalArgumentException("Unvollständiger Task-Satz mit " + record.length + " Feldern");
+				tasks.put(task.getId(), task);
+				break;
+			case DONE:
+				Task existing = tasks.get(Long.parseLong(record[1]));
+				if (existing != null && record.length == 3) existing.setDone(Boolean.parseBoolean(record[2]));
+				break;
+			case DELETE:
+				tasks.remove(Long.parseLong(record[1]));
+				break;
+		}
+	}
+
+	/** Ersetzt das Journal durch die Sätze ab mark (alles davor steckt im neuen Snapshot). */
+	private void truncateJournalBefore(long mark) throws IOException {
+
+		Path temp = AtomicFiles.createTempFile(journalPath);
+		try {
+			try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				long size = journal.size();
+				long position = mark;
+				while (position < size) {
+					position += journal.transferTo(position, size - position, target);
+				}
+				if (policy != FsyncPolicy.NEVER) target.force(true);
+			}
+			journal.close();
+			AtomicFiles.move(temp, journalPath);
+		} finally {
+			Files.deleteIfExists(temp);
+			if (!journal.isOpen()) {
+				journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			}
+		}
+	}
+
+	/**
+	 * Sucht das Ende des letzten vollständigen Satzes: das letzte '\n' außerhalb von Anführungszeichen
+	 * (gequotete Felder dürfen Zeilenumbrüche enthalten; '"' und '\n' kommen in UTF-8 nicht in Mehrbyte-Zeichen vor).
+	 * @return Position direkt hinter diesem '\n' (0, wenn es keines gibt)
+	 */
+	private static long lastRecordEnd(FileChannel channel) throws IOException {
+
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		long size = channel.size();
+		long position = 0;
+		long end = 0;
+		boolean quoted = false;
+		while (position < size) {
+			buffer.clear();
+			int read = channel.read(buffer, position);
+			if (read < 0) break;
+			for (int i = 0; i < read; i++) {
+				byte b = buffer.get(i);
+				if (b == '"') quoted = !quoted;		// "" im Feld schaltet zweimal um
+				else if (b == '\n' && !quoted) end = position + i + 1;
+			}
+			position += read;
+		}
+		return end;
+	}
+
+	private static Task copyOf(Task task) {
+		return Task.fromCsv(task.getId(), task.getCreatedAt(), task.getCategory(), task.getTitle(),
+				task.getDescription(), task.getDueDate(), task.getReminderDate(), task.getPriority(), task.isDone());
+	}
+}
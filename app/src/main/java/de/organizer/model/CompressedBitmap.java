@@ -0,0 +1,485 @@
+package de.organizer.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Komprimierte Bitmap nach dem Roaring-Prinzip: die Werte (nicht-negative int) werden nach den
+ * oberen 16 Bit in Blöcke zu 65536 aufgeteilt. Jeder Block speichert seine unteren 16 Bit je nach
+ * Dichte als sortiertes char-Array (bis 4096 Werte) oder als Bitmap aus 1024 long-Wörtern.
+ * Dünne Mengen kosten so 2 Byte pro Wert, dichte höchstens 1 Bit pro möglichem Wert.
+ *
+ * AND/OR/ANDNOT liefern neue Bitmaps und verändern die Operanden nicht.
+ * add() ist für den Aufbau gedacht (aufsteigend am schnellsten). Nicht thread-sicher.
+ */
+public final class CompressedBitmap {
+
+	/** Ab mehr Werten lohnt sich die Bitmap-Darstellung eines Blocks (4096 * 2 Byte = 8 KiB) */
+	static final int ARRAY_LIMIT = 4096;
+
+	private static final int WORDS = 1 << 10;	// 65536 Bit je Block
+
+	private char[] keys;
+	private Container[] containers;
+	private int size;
+
+	public CompressedBitmap() {
+		this(4);
+	}
+
+	private CompressedBitmap(int capacity) {
+		this.keys = new char[capacity];
+		this.containers = new Container[capacity];
+	}
+
+	/**
+	 * Bitmap mit allen Werten von fromInclusive bis toExclusive (z.B. alle Positionen für NOT).
+	 */
+	public static CompressedBitmap range(int fromInclusive, int toExclusive) {
+		if (fromInclusive < 0 || toExclusive < fromInclusive) {
+			throw new IllegalArgumentException("Ungültiger Bereich: " + fromInclusive + " bis " + toExclusive);
+		}
+		CompressedBitmap bitmap = new CompressedBitmap();
+		for (long start = fromInclusive; start < toExclusive; start = (start | 0xFFFF) + 1) {
+			int high = (int) (start >>> 16);
+			long end = Math.min(toExclusive, ((long) high + 1) << 16);
+			long[] words = new long[WORDS];
+			setRange(words, (int) (start & 0xFFFF), (int) (end - ((long) high << 16)));
+			bitmap.append((char) high, Container.fromWords(words, (int) (end - start)));
+		}
+		return bitmap;
+	}
+
+	/**
+	 * ODER über beliebig viele Bitmaps.
+	 */
+	public static CompressedBitmap orAll(Collection<CompressedBitmap> bitmaps) {
+		if (bitmaps.size() <= 2) {
+			CompressedBitmap result = new CompressedBitmap();
+			for (CompressedBitmap bitmap : bitmaps) result = result.or(bitmap);
+			return result;
+		}
+		// Je Block ein Bit-Akkumulator, statt bei jedem Schritt das Zwischenergebnis zu kopieren
+		TreeMap<Character, long[]> accumulators = new TreeMap<>();
+		for (CompressedBitmap bitmap : bitmaps) {
+			for (int i = 0; i < bitmap.size; i++) {
+				bitmap.containers[i].orInto(accumulators.computeIfAbsent(bitmap.keys[i], k -> new long[WORDS]));
+			}
+		}
+		CompressedBitmap result = new CompressedBitmap(accumulators.size() + 1);
+		accumulators.forEach((key, words) -> result.append(key, Container.fromWords(words, -1)));
+		return result;
+	}
+
+	// ------------------------- Aufbau und Abfrage ---------------------------
+
+	/**
+	 * Fügt einen Wert hinzu.
+	 * @param value nicht-negativer Wert (z.B. Position eines Tasks)
+	 */
+	public void add(int value) {
+		if (value < 0) throw new IllegalArgumentException("Nur nicht-negative Werte: " + value);
+		char high = (char) (value >>> 16);
+		char low = (char) value;
+
+		if (size > 0 && keys[size - 1] == high) {		// aufsteigender Aufbau -> letzter Block
+			containers[size - 1] = containers[size - 1].add(low);
+			return;
+		}
+		int index = Arrays.binarySearch(keys, 0, size, high);
+		if (index >= 0) {
+			containers[index] = containers[index].add(low);
+			return;
+		}
+		insert(-index - 1, high, new ArrayContainer().add(low));
+	}
+
+	/** @return true, wenn der Wert enthalten ist */
+	public boolean contains(int value) {
+		if (value < 0) return false;
+		int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+		return index >= 0 && containers[index].contains((char) value);
+	}
+
+	/** @return Anzahl der enthaltenen Werte */
+	public int cardinality() {
+		int cardinality = 0;
+		for (int i = 0; i < size; i++) cardinality += containers[i].cardinality();
+		return cardinality;
+	}
+
+	/** @return true, wenn kein Wert enthalten ist */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Ruft action für jeden Wert in aufsteigender Reihenfolge auf. */
+	public void forEach(IntConsumer action) {
+		for (int i = 0; i < size; i++) containers[i].forEach(keys[i] << 16, action);
+	}
+
+	/** @return alle Werte aufsteigend */
+	public int[] toArray() {
+		int[] values = new int[cardinality()];
+		int[] next = {0};
+		forEach(value -> values[next[0]++] = value);
+		return values;
+	}
+
+	/** @return geschätzter Heap-Bedarf in Byte (Arrays der Blöcke, ohne Objekt-Header) */
+	public long sizeInBytes() {
+		long bytes = (long) keys.length * Character.BYTES + (long) containers.length * 4;
+		for (int i = 0; i < size; i++) bytes += containers[i].sizeInBytes();
+		return bytes;
+	}
+
+	// ------------------------- Mengenoperationen ---------------------------
+
+	/** @return Schnittmenge (AND) als neue Bitmap */
+	public CompressedBitmap and(CompressedBitmap other) {
+		CompressedBitmap result = new CompressedBitmap(Math.min(size, other.size) + 1);
+		int i = 0, j = 0;
+		while (i < size && j < other.size) {
+			if (keys[i] < other.keys[j]) i++;
+			else if (keys[i] > other.keys[j]) j++;
+			else {
+				result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	/** @return Vereinigung (OR) als neue Bitmap */
+	public CompressedBitmap or(CompressedBitmap other) {
+		CompressedBitmap result = new CompressedBitmap(size + other.size + 1);
+		int i = 0, j = 0;
+		while (i < size || j < other.size) {
+			if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+				result.append(keys[i], containers[i].copy());
+				i++;
+			} else if (i >= size || keys[i] > other.keys[j]) {
+				result.append(other.keys[j], other.containers[j].copy());
+				j++;
+			} else {
+				result.append(keys[i], containers[i].or(other.containers[j]));
+				i++;
+				j++;
+			}
+		}
+		return result;
+	}
+
+	/** @return Differenz (AND NOT) als neue Bitmap: Werte aus dieser, die nicht in other sind */
+	public CompressedBitmap andNot(CompressedBitmap other) {
+		CompressedBitmap result = new CompressedBitmap(size + 1);
+		int j = 0;
+		for (int i = 0; i < size; i++) {
+			while (j < other.size && other.keys[j] < keys[i]) j++;
+			if (j < other.size && other.keys[j] == keys[i]) {
+				result.appendIfNotEmpty(keys[i], containers[i].andNot(other.containers[j]));
+			} else {
+				result.append(keys[i], containers[i].copy());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Zählt die Schnittmenge, ohne sie aufzubauen (z.B. für Dashboard-Zähler).
+	 */
+	public int andCardinality(CompressedBitmap other) {
+		int cardinality = 0;
+		int i = 0, j = 0;
+		while (i < size && j < other.size) {
+			if (keys[i] < other.keys[j]) i++;
+			else if (keys[i] > other.keys[j]) j++;
+			else cardinality += containers[i++].andCardinality(other.containers[j++]);
+		}
+		return cardinality;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof CompressedBitmap)) return false;
+		return Arrays.equals(toArray(), ((CompressedBitmap) obj).toArray());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(toArray());
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private void append(char key, Container container) {
+		insert(size, key, container);
+	}
+
+	private void appendIfNotEmpty(char key, Container container) {
+		if (container.cardinality() > 0) append(key, container);
+	}
+
+	private void insert(int index, char key, Container container) {
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2 + 1);
+			containers = Arrays.copyOf(containers, size * 2 + 1);
+		}
+		System.arraycopy(keys, index, keys, index + 1, size - index);
+		System.arraycopy(containers, index, containers, index + 1, size - index);
+		keys[index] = key;
+		containers[index] = container;
+		size++;
+	}
+
+	private static void setRange(long[] words, int from, int to) {
+		for (int bit = from; bit < to; ) {
+			int word = bit >>> 6;
+			int end = Math.min(to, (word + 1) << 6);
+			long mask = (end - bit == 64) ? -1L : ((1L << (end - bit)) - 1) << (bit & 63);
+			words[word] |= mask;
+			bit = end;
+		}
+	}
+
+	// ------------------------- Blöcke ---------------------------
+
+	/** Unteren 16 Bit eines Blocks, als Array oder Bitmap */
+	private abstract static class Container {
+
+		abstract Container add(char value);
+
+		abstract boolean contains(char value);
+
+		abstract int cardinality();
+
+		abstract void forEach(int high, IntConsumer action);
+
+		abstract Container copy();
+
+		abstract long sizeInBytes();
+
+		/** Setzt die eigenen Bits in words (für OR mit Bitmap-Blöcken). */
+		abstract void orInto(long[] words);
+
+		Container and(Container other) {
+			if (this instanceof ArrayContainer) return ((ArrayContainer) this).filter(other, true);
+			if (other instanceof ArrayContainer) return ((ArrayContainer) other).filter(this, true);
+			long[] words = ((BitmapContainer) this).words.clone();
+			long[] otherWords = ((BitmapContainer) other).words;
+			for (int i = 0; i < WORDS; i++) words[i] &= otherWords[i];
+			return fromWords(words, -1);
+		}
+
+		int andCardinality(Container other) {
+			if (this instanceof BitmapContainer && other instanceof BitmapContainer) {
+				long[] a = ((BitmapContainer) this).words;
+				long[] b = ((BitmapContainer) other).words;
+				int cardinality = 0;
+				for (int i = 0; i < WORDS; i++) cardinality += Long.bitCount(a[i] & b[i]);
+				return cardinality;
+			}
+			ArrayContainer array = this instanceof ArrayContainer ? (ArrayContainer) this : (ArrayContainer) other;
+			Container probe = array == this ? other : this;
+			int cardinality = 0;
+			for (int i = 0; i < array.size; i++) {
+				if (probe.contains(array.values[i])) cardinality++;
+			}
+			return cardinality;
+		}
+
+		Container or(Container other) {
+			if (this instanceof ArrayContainer && other instanceof ArrayContainer) {
+				return ((ArrayContainer) this).union((ArrayContainer) other);
+			}
+			long[] words = new long[WORDS];
+			orInto(words);
+			other.orInto(words);
+			return fromWords(words, -1);
+		}
+
+		Container andNot(Container other) {
+			if (this instanceof ArrayContainer) return ((ArrayContainer) this).filter(other, false);
+			long[] words = ((BitmapContainer) this).words.clone();
+			if (other instanceof ArrayContainer) {
+				ArrayContainer array = (ArrayContainer) other;
+				for (int i = 0; i < array.size; i++) words[array.values[i] >>> 6] &= ~(1L << array.values[i]);
+			} else {
+				long[] otherWords = ((BitmapContainer) other).words;
+				for (int i = 0; i < WORDS; i++) words[i] &= ~otherWords[i];
+			}
+			return fromWords(words, -1);
+		}
+
+		/**
+		 * Wählt die passende Darstellung für die Bits.
+		 * @param cardinality Anzahl gesetzter Bits oder -1 = zählen
+		 */
+		static Container fromWords(long[] words, int cardinality) {
+			if (cardinality < 0) {
+				cardinality = 0;
+				for (long word : words) cardinality += Long.bitCount(word);
+			}
+			if (cardinality > ARRAY_LIMIT) return new BitmapContainer(words, cardinality);
+
+			char[] values = new char[Math.max(cardinality, 1)];
+			int size = 0;
+			for (int i = 0; i < WORDS; i++) {
+				for (long word = words[i]; word != 0; word &= word - 1) {
+					values[size++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+				}
+			}
+			return new ArrayContainer(values, size);
+		}
+	}
+
+	private static final class ArrayContainer extends Container {
+
+		private char[] values;
+		private int size;
+
+		ArrayContainer() {
+			this(new char[4], 0);
+		}
+
+		ArrayContainer(char[] values, int size) {
+			this.values = values;
+			this.size = size;
+		}
+
+		@Override
+		Container add(char value) {
+			int index = size > 0 && values[size - 1] < value ? -size - 1 : Arrays.binarySearch(values, 0, size, value);
+			if (index >= 0) return this;
+			if (size == ARRAY_LIMIT) {
+				long[] words = new long[WORDS];
+				orInto(words);
+				words[value >>> 6] |= 1L << value;
+				return new BitmapContainer(words, size + 1);
+			}
+			index = -index - 1;
+			if (size == values.length) values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_LIMIT));
+			System.arraycopy(values, index, values, index + 1, size - index);
+			values[index] = value;
+			size++;
+			return this;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return Arrays.binarySearch(values, 0, size, value) >= 0;
+		}
+
+		@Override
+		int cardinality() {
+			return size;
+		}
+
+		@Override
+		void forEach(int high, IntConsumer action) {
+			for (int i = 0; i < size; i++) action.accept(high | values[i]);
+		}
+
+		@Override
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+		}
+
+		@Override
+		long sizeInBytes() {
+			return (long) values.length * Character.BYTES;
+		}
+
+		@Override
+		void orInto(long[] words) {
+			for (int i = 0; i < size; i++) words[values[i] >>> 6] |= 1L << values[i];
+		}
+
+		/** Behält die Werte, die in other enthalten (keep = true) bzw. nicht enthalten sind. */
+		Container filter(Container other, boolean keep) {
+			char[] result = new char[Math.max(size, 1)];
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (other.contains(values[i]) == keep) result[count++] = values[i];
+			}
+			return new ArrayContainer(result, count);
+		}
+
+		Container union(ArrayContainer other) {
+			char[] result = new char[size + other.size];
+			int i = 0, j = 0, count = 0;
+			while (i < size && j < other.size) {
+				char a = values[i], b = other.values[j];
+				if (a <= b) i++;
+				if (b <= a) j++;
+				result[count++] = a <= b ? a : b;
+			}
+			while (i < size) result[count++] = values[i++];
+			while (j < other.size) result[count++] = other.values[j++];
+
+			if (count <= ARRAY_LIMIT) return new ArrayContainer(result.length == 0 ? new char[1] : result, count);
+			long[] words = new long[WORDS];
+			for (int k = 0; k < count; k++) words[result[k] >>> 6] |= 1L << result[k];
+			return new BitmapContainer(words, count);
+		}
+	}
+
+	private static final class BitmapContainer extends Container {
+
+		private final long[] words;
+		private int cardinality;
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		Container add(char value) {
+			long bit = 1L << value;
+			if ((words[value >>> 6] & bit) == 0) {
+				words[value >>> 6] |= bit;
+				cardinality++;
+			}
+			return this;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		void forEach(int high, IntConsumer action) {
+			for (int i = 0; i < WORDS; i++) {
+				for (long word = words[i]; word != 0; word &= word - 1) {
+					action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+				}
+			}
+		}
+
+		@Override
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		long sizeInBytes() {
+			return (long) WORDS * Long.BYTES;
+		}
+
+		@Override
+		void orInto(long[] target) {
+			for (int i = 0; i < WORDS; i++) target[i] |= words[i];
+		}
+	}
+}
@@ -56,6 +56,13 @@ public class Memo {
 	 * Factory-Methode nur für CSV-Einleser, um bestehende ID+Zeitstempel zu übernehmen.
 	 */
 	public static Memo fromCsv(long id, String createdAt, String title, String content) {
+		return fromCsv(id, LocalDateTime.parse(createdAt), title, content);
+	}
+	
+	/**
+	 * Factory-Methode für Einleser, die den Zeitstempel bereits selbst geparst haben.
+	 */
+	public static Memo fromCsv(long id, LocalDateTime createdAt, String title, String content) {
 		Memo memo = new Memo.Builder()
 				.title(title)
 				.content(content)
@@ -106,8 +113,16 @@ public class Memo {
 		 * Baut das Memo-Objekt mit vorgegebenen ID und Erstellungszeitpunkt.
 		 */
 		public Memo buildInternal(long id, String createdAt) {
+			return buildInternal(id, LocalDateTime.parse(createdAt));
+		}
+		
+		/**
+		 * Baut das Memo-Objekt mit vorgegebenen ID und bereits geparstem Erstellungszeitpunkt.
+		 */
+		public Memo buildInternal(long id, LocalDateTime createdAt) {
 			this.id = id; // Vorhandene ID übernehmen
-			this.createdAt = LocalDateTime.parse(createdAt); // Vorhandenen Zeitstempel übernehmen
+			IDGenerator.observe(id); // neue IDs hinter den geladenen vergeben
+			this.createdAt = createdAt; // Vorhandenen Zeitstempel übernehmen
 
 			validateMandatoryFields();
 
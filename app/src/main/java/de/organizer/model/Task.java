@@ -201,6 +201,7 @@ public class Task {
     	private Task buildInternal(long csvId, LocalDateTime csvCreatedAt) {
     	    this.id = csvId;
     	    this.createdAt = csvCreatedAt;
+    	    IDGenerator.observe(csvId);		// neue IDs hinter den geladenen vergeben
     	    
     	    // validiere Pflichtfelder wie in build()
     	    validateMandatoryFields();
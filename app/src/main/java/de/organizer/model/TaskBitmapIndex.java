@@ -0,0 +1,109 @@
+package de.organizer.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Spaltenweiser Bitmap-Index über eine feste Task-Liste: je Priority, Category und für done
+ * eine CompressedBitmap über die Listenpositionen, dazu je Fälligkeitstag eine Bitmap.
+ * TaskQuery-Ausdrücke werden durch Verknüpfen der Bitmaps ausgewertet; count() fasst
+ * dabei keinen Task an.
+ *
+ * Der Index ist eine Momentaufnahme: nach Änderungen an der Liste oder an den Tasks
+ * (z.B. setDone) muss er neu aufgebaut werden. Für laufend geänderte Bestände siehe TaskRepository.
+ */
+public class TaskBitmapIndex {
+
+	private final List<Task> tasks;
+	private final CompressedBitmap all;
+	private final EnumMap<Priority, CompressedBitmap> byPriority = new EnumMap<>(Priority.class);
+	private final EnumMap<Category, CompressedBitmap> byCategory = new EnumMap<>(Category.class);
+	private final CompressedBitmap done = new CompressedBitmap();
+	private final CompressedBitmap withDueDate = new CompressedBitmap();
+	private final NavigableMap<Long, CompressedBitmap> byDueDay = new TreeMap<>();	// Schlüssel: epochDay
+
+	/**
+	 * Baut den Index in einem Durchlauf auf.
+	 * @param tasks indizierte Tasks; die Position in der Liste ist der Wert in den Bitmaps
+	 */
+	public TaskBitmapIndex(List<Task> tasks) {
+		this.tasks = new ArrayList<>(tasks);
+		this.all = CompressedBitmap.range(0, this.tasks.size());
+		for (Priority priority : Priority.values()) byPriority.put(priority, new CompressedBitmap());
+		for (Category category : Category.values()) byCategory.put(category, new CompressedBitmap());
+
+		for (int position = 0; position < this.tasks.size(); position++) {
+			Task task = this.tasks.get(position);
+			if (task.getPriority() != null) byPriority.get(task.getPriority()).add(position);
+			if (task.getCategory() != null) byCategory.get(task.getCategory()).add(position);
+			if (task.isDone()) done.add(position);
+			if (task.getDueDate() != null) {
+				withDueDate.add(position);
+				byDueDay.computeIfAbsent(task.getDueDate().toEpochDay(), d -> new CompressedBitmap()).add(position);
+			}
+		}
+	}
+
+	// ------------------------- Abfragen ---------------------------
+
+	/** @return Anzahl der indizierten Tasks */
+	public int size() {
+		return tasks.size();
+	}
+
+	/** @return Anzahl der Treffer, ohne Tasks zu materialisieren */
+	public int count(TaskQuery query) {
+		return query.evaluate(this).cardinality();
+	}
+
+	/** @return Listenpositionen der Treffer, aufsteigend */
+	public int[] positions(TaskQuery query) {
+		return query.evaluate(this).toArray();
+	}
+
+	/** @return Treffer in Listenreihenfolge als neue Liste */
+	public List<Task> select(TaskQuery query) {
+		CompressedBitmap matches = query.evaluate(this);
+		List<Task> result = new ArrayList<>(matches.cardinality());
+		matches.forEach(position -> result.add(tasks.get(position)));
+		return result;
+	}
+
+	// ------------------------- Spalten (für TaskQuery) ---------------------------
+	// Liefern Bitmaps, die der Aufrufer nicht verändern darf; die Operationen darauf erzeugen neue.
+
+	CompressedBitmap all() {
+		return all;
+	}
+
+	CompressedBitmap priority(Priority priority) {
+		return byPriority.get(priority);
+	}
+
+	CompressedBitmap category(Category category) {
+		return byCategory.get(category);
+	}
+
+	CompressedBitmap done() {
+		return done;
+	}
+
+	CompressedBitmap withDueDate() {
+		return withDueDate;
+	}
+
+	/** ODER über die Tagesbitmaps im Bereich; null = offene Grenze */
+	CompressedBitmap dueBetween(LocalDate from, LocalDate to) {
+		if (from == null && to == null) return withDueDate;
+		long fromDay = from != null ? from.toEpochDay() : Long.MIN_VALUE;
+		long toDay = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+		return CompressedBitmap.orAll(byDueDay.subMap(fromDay, true, toDay, true).values());
+	}
+}
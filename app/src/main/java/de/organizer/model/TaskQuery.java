@@ -0,0 +1,84 @@
+package de.organizer.model;
+
+import java.time.LocalDate;
+
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Boolescher Ausdruck über Task-Felder, der auf einem TaskBitmapIndex ausgewertet wird, z.B.
+ * <pre>
+ * TaskQuery offenUndWichtig = TaskQuery.done(false)
+ *         .and(TaskQuery.priority(Priority.HIGH).or(TaskQuery.priority(Priority.URGENT)))
+ *         .and(TaskQuery.category(Category.PERSONAL).not());
+ * int anzahl = index.count(offenUndWichtig);
+ * </pre>
+ * Datumsgrenzen sind inklusive, Tasks ohne Fälligkeitsdatum erfüllen keine Datumsbedingung.
+ */
+@FunctionalInterface
+public interface TaskQuery {
+
+	/**
+	 * @return Positionen der passenden Tasks im Index; kann eine Spalte des Index sein, daher nicht mit add() verändern
+	 */
+	CompressedBitmap evaluate(TaskBitmapIndex index);
+
+	/** @return Ausdruck, der zusätzlich other erfordert (AND) */
+	default TaskQuery and(TaskQuery other) {
+		return index -> evaluate(index).and(other.evaluate(index));
+	}
+
+	/** @return Ausdruck, der alternativ other zulässt (OR) */
+	default TaskQuery or(TaskQuery other) {
+		return index -> evaluate(index).or(other.evaluate(index));
+	}
+
+	/** @return Ausdruck, der this, aber nicht other erfordert (AND NOT) */
+	default TaskQuery andNot(TaskQuery other) {
+		return index -> evaluate(index).andNot(other.evaluate(index));
+	}
+
+	/** @return Verneinung bezogen auf alle Tasks im Index (NOT) */
+	default TaskQuery not() {
+		return index -> index.all().andNot(evaluate(index));
+	}
+
+	// ------------------------- Grundbedingungen ---------------------------
+
+	/** @return alle Tasks */
+	static TaskQuery all() {
+		return TaskBitmapIndex::all;
+	}
+
+	/** @return Tasks mit der Priorität */
+	static TaskQuery priority(Priority priority) {
+		return index -> index.priority(priority);
+	}
+
+	/** @return Tasks mit der Kategorie */
+	static TaskQuery category(Category category) {
+		return index -> index.category(category);
+	}
+
+	/** @return erledigte (true) bzw. offene (false) Tasks */
+	static TaskQuery done(boolean done) {
+		return done ? TaskBitmapIndex::done : index -> index.all().andNot(index.done());
+	}
+
+	/** @return Tasks mit Fälligkeitsdatum */
+	static TaskQuery hasDueDate() {
+		return TaskBitmapIndex::withDueDate;
+	}
+
+	/**
+	 * @param from untere Grenze (inklusive) oder null für offen
+	 * @param to obere Grenze (inklusive) oder null für offen
+	 * @return Tasks mit Fälligkeitsdatum im Bereich
+	 */
+	static TaskQuery dueBetween(LocalDate from, LocalDate to) {
+		if (from != null && to != null && from.isAfter(to)) {
+			throw new IllegalArgumentException("from liegt nach to: " + from + " > " + to);
+		}
+		return index -> index.dueBetween(from, to);
+	}
+}
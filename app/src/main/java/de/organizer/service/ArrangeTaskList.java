@@ -1,13 +1,37 @@
 package de.organizer.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
 
 public class ArrangeTaskList {
     
+    /** Ab dieser Größe sortieren die *Parallel-Varianten auf dem Common-ForkJoinPool */
+    public static final int PARALLEL_THRESHOLD = 1 << 17;
+    
+    // Rang je Ordinal -> Sortierung nach Level bzw. Label ohne Vergleiche (Counting-Sort)
+    private static final int[] PRIORITY_RANK = TaskSorter.rankOf(Priority.values(), Priority::getLevel);
+    private static final int[] CATEGORY_RANK = TaskSorter.rankOf(Category.values(), Category::getLabel);
+    
+    // Referenz-Comparatoren: kleine Listen; die Schlüssel-Sortierungen liefern exakt dieselbe Reihenfolge
+    static final Comparator<Task> PRIORITY_ORDER = by((Task t) -> t.getPriority().getLevel());
+    static final Comparator<Task> CATEGORY_ORDER = by((Task t) -> t.getCategory().getLabel());
+    static final Comparator<Task> DUE_DATE_ORDER = by(Task::getDueDate);
+    static final Comparator<Task> TITLE_ORDER = Comparator.comparing(Task::getTitle, String.CASE_INSENSITIVE_ORDER);
+    static final Comparator<Task> PRIORITY_DUE_DATE_ORDER = PRIORITY_ORDER.thenComparing(DUE_DATE_ORDER);
+    static final Comparator<Task> CATEGORY_DUE_DATE_ORDER = CATEGORY_ORDER.thenComparing(DUE_DATE_ORDER);
+    static final Comparator<Task> NEWEST_ORDER = Comparator.comparing(Task::getCreatedAt,
+            Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).reversed();
+    static final Comparator<Task> OLDEST_ORDER = by(Task::getCreatedAt);
+    
 	// Konstruktor -> Klasse uninstanziierbar
 	private ArrangeTaskList() {
 		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
@@ -15,65 +39,72 @@ public class ArrangeTaskList {
 	
     /**
      * Sortiert Tasks nach Prioritätslevel, null-Werte ans Ende.
+     * Große Listen per Counting-Sort über die 4 Level (O(n), stabil).
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByPriority(List<Task> taskList) {
-        taskList.sort(by((Task t) -> t.getPriority().getLevel()));
+        if (taskList.size() < TaskSorter.SMALL_LIST) {
+            taskList.sort(PRIORITY_ORDER);
+            return;
+        }
+        TaskSorter.countingSort(taskList, t -> PRIORITY_RANK[t.getPriority().ordinal()], PRIORITY_RANK.length);
     }
     
     /**
      * Sortiert Tasks nach Kategorie-Label, null-Werte ans Ende.
+     * Große Listen per Counting-Sort über die Kategorien (O(n), stabil).
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByCategory(List<Task> taskList) {
-        taskList.sort(by((Task t) -> t.getCategory().getLabel()));
+        if (taskList.size() < TaskSorter.SMALL_LIST) {
+            taskList.sort(CATEGORY_ORDER);
+            return;
+        }
+        TaskSorter.countingSort(taskList, t -> CATEGORY_RANK[t.getCategory().ordinal()], CATEGORY_RANK.length);
     }
     
     /**
      * Sortiert Tasks nach Fälligkeitsdatum, null-Werte ans Ende.
+     * Große Listen per Radix-Sort über den Epochentag (O(n), stabil).
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByDueDate(List<Task> taskList) {
-        taskList.sort(by(Task::getDueDate));
+        sortByKey(taskList, DUE_DATE_ORDER, TaskSorter::dueDateKey, null, 0);
     }
     
     /**
      * Sortiert Tasks nach Titel (case-insensitive).
+     * Große Listen über den Rang der verschiedenen Titel -> nur diese werden verglichen.
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByTitle(List<Task> taskList) {
-        taskList.sort(Comparator.comparing(Task::getTitle, String.CASE_INSENSITIVE_ORDER));
+        sortByTitle(taskList, null, 0);
     }
     
     /**
      * Sortiert Tasks zuerst nach Priorität und dann nach Fälligkeitsdatum.
+     * Große Listen über einen gepackten Schlüssel (Rang der Priorität | Epochentag).
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByPriorityDueDate(List<Task> taskList) {
-        taskList.sort(by((Task t) -> t.getPriority().getLevel())
-                .thenComparing(by(Task::getDueDate))
-        );
+        sortByKey(taskList, PRIORITY_DUE_DATE_ORDER, ArrangeTaskList::priorityDueDateKey, null, 0);
     }
     
     /**
      * Sortiert Tasks zuerst nach Kategorie und dann nach Fälligkeitsdatum.
+     * Große Listen über einen gepackten Schlüssel (Rang der Kategorie | Epochentag).
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByCategoryDueDate(List<Task> taskList) {
-        taskList.sort(by((Task t) -> t.getCategory().getLabel())
-                .thenComparing(by(Task::getDueDate))
-        );
+        sortByKey(taskList, CATEGORY_DUE_DATE_ORDER, ArrangeTaskList::categoryDueDateKey, null, 0);
     }
     
     /**
-     * Sortiert Tasks nach Erstellzeitpunkt (neuste zuerst).
+     * Sortiert Tasks nach Erstellzeitpunkt (neuste zuerst), null-Werte ans Ende.
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByNewest(List<Task> taskList) {
-        taskList.sort(
-            Comparator.comparing(Task::getCreatedAt, Comparator.nullsFirst(null))
-                      .reversed()
-        );
+        sortByCreatedAt(taskList, NEWEST_ORDER, true, null, 0);
     }
     
     /**
@@ -81,7 +112,216 @@ public class ArrangeTaskList {
      * @param taskList Liste der zu sortierenden Tasks
      */
     public static void sortByOldest(List<Task> taskList) {
-        taskList.sort(by(Task::getCreatedAt));
+        sortByCreatedAt(taskList, OLDEST_ORDER, false, null, 0);
+    }
+    
+    // ------------------------- Parallele Varianten ---------------------------
+    // Gleiche (stabile) Reihenfolge wie die sequentiellen Methoden. Unter PARALLEL_THRESHOLD
+    // oder mit nur einem Thread im Common-Pool wird sequentiell sortiert.
+    // Die package-private Überladungen mit Pool und Schwelle sind für Tests.
+    
+    /**
+     * Wie sortByPriority(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByPriorityParallel(List<Task> taskList) {
+        sortByPriorityParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByPriorityParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        if (!isParallel(taskList, pool, threshold)) {
+            sortByPriority(taskList);
+            return;
+        }
+        TaskSorter.parallelSortByKey(taskList, ArrangeTaskList::priorityKey, pool);
+    }
+    
+    /**
+     * Wie sortByCategory(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByCategoryParallel(List<Task> taskList) {
+        sortByCategoryParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByCategoryParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        if (!isParallel(taskList, pool, threshold)) {
+            sortByCategory(taskList);
+            return;
+        }
+        TaskSorter.parallelSortByKey(taskList, ArrangeTaskList::categoryKey, pool);
+    }
+    
+    /**
+     * Wie sortByDueDate(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByDueDateParallel(List<Task> taskList) {
+        sortByDueDateParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByDueDateParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        sortByKey(taskList, DUE_DATE_ORDER, TaskSorter::dueDateKey, pool, threshold);
+    }
+    
+    /**
+     * Wie sortByTitle(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByTitleParallel(List<Task> taskList) {
+        sortByTitleParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByTitleParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        sortByTitle(taskList, pool, threshold);
+    }
+    
+    /**
+     * Wie sortByPriorityDueDate(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByPriorityDueDateParallel(List<Task> taskList) {
+        sortByPriorityDueDateParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByPriorityDueDateParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        sortByKey(taskList, PRIORITY_DUE_DATE_ORDER, ArrangeTaskList::priorityDueDateKey, pool, threshold);
+    }
+    
+    /**
+     * Wie sortByCategoryDueDate(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByCategoryDueDateParallel(List<Task> taskList) {
+        sortByCategoryDueDateParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByCategoryDueDateParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        sortByKey(taskList, CATEGORY_DUE_DATE_ORDER, ArrangeTaskList::categoryDueDateKey, pool, threshold);
+    }
+    
+    /**
+     * Wie sortByNewest(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByNewestParallel(List<Task> taskList) {
+        sortByNewestParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByNewestParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        sortByCreatedAt(taskList, NEWEST_ORDER, true, pool, threshold);
+    }
+    
+    /**
+     * Wie sortByOldest(), große Listen parallel.
+     * @param taskList Liste der zu sortierenden Tasks
+     */
+    public static void sortByOldestParallel(List<Task> taskList) {
+        sortByOldestParallel(taskList, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+    
+    static void sortByOldestParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        sortByCreatedAt(taskList, OLDEST_ORDER, false, pool, threshold);
+    }
+    
+    // ------------------------- Top-K und Seiten ---------------------------
+    // Für Ansichten, die nur die ersten Einträge brauchen: O(n log k) statt einer kompletten
+    // Sortierung, die übergebene Liste bleibt unverändert.
+    
+    /**
+     * Liefert die ersten k Tasks in der gewählten Reihenfolge (null-Werte am Ende wie bei by()).
+     * Entspricht den ersten k Einträgen von order.sort() auf einer Kopie der Liste.
+     * @param taskList Quelle, wird nicht verändert
+     * @param order gewünschte Reihenfolge
+     * @param k Höchstanzahl
+     * @return neue Liste mit höchstens k Tasks
+     */
+    public static List<Task> topK(List<Task> taskList, TaskOrder order, int k) {
+        if (k < 0) throw new IllegalArgumentException("k darf nicht negativ sein: " + k);
+        if (k == 0) return new ArrayList<>();
+        if (order.key() != null) {
+            try {
+                return TaskSorter.smallestByKey(taskList, order.key(), k);
+            } catch (ArithmeticException e) {
+                // Schlüssel nicht darstellbar -> Comparator
+            }
+        }
+        return TaskSorter.smallest(taskList, order.comparator(), k);
+    }
+    
+    /**
+     * Liefert eine Seite der sortierten Tasks, z.B. page(tasks, TaskOrder.PRIORITY_DUE_DATE, 20, 20)
+     * für die zweite Seite mit 20 Einträgen. Kosten O(n log (offset + limit)).
+     * @param taskList Quelle, wird nicht verändert
+     * @param order gewünschte Reihenfolge
+     * @param offset Anzahl der zu überspringenden Tasks
+     * @param limit Höchstanzahl auf der Seite
+     * @return neue Liste mit höchstens limit Tasks (leer hinter dem Ende)
+     */
+    public static List<Task> page(List<Task> taskList, TaskOrder order, int offset, int limit) {
+        if (offset < 0 || limit < 0) throw new IllegalArgumentException("offset und limit dürfen nicht negativ sein");
+        if (offset >= taskList.size()) return new ArrayList<>();
+        
+        int end = (int) Math.min((long) offset + limit, taskList.size());
+        List<Task> top = topK(taskList, order, end);
+        return new ArrayList<>(top.subList(offset, top.size()));
+    }
+    
+    // ------------------------- Hilfsmethoden ---------------------------
+    
+    /**
+     * Helper: kleine Listen per Comparator, sonst nach Schlüssel (sequentiell oder parallel).
+     * pool == null -> immer sequentiell.
+     */
+    private static void sortByKey(List<Task> taskList, Comparator<Task> comparator,
+            ToLongFunction<Task> keyOf, ForkJoinPool pool, int threshold) {
+    
+        if (taskList.size() < TaskSorter.SMALL_LIST) {
+            taskList.sort(comparator);
+        } else if (isParallel(taskList, pool, threshold)) {
+            TaskSorter.parallelSortByKey(taskList, keyOf, pool);
+        } else {
+            TaskSorter.sortByKey(taskList, keyOf);
+        }
+    }
+    
+    private static void sortByTitle(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        ToLongFunction<Task> rank = taskList.size() < TaskSorter.SMALL_LIST ? null : TaskSorter.titleRank(taskList);
+        sortByKey(taskList, TITLE_ORDER, rank, pool, threshold);
+    }
+    
+    /**
+     * Helper: Sortierung nach Erstellzeitpunkt über Nanosekunden-Schlüssel.
+     * Zeitpunkte außerhalb des long-Bereichs (vor 1677 / nach 2262) -> Comparator.
+     */
+    private static void sortByCreatedAt(List<Task> taskList, Comparator<Task> comparator,
+            boolean descending, ForkJoinPool pool, int threshold) {
+        try {
+            sortByKey(taskList, comparator, t -> TaskSorter.createdAtKey(t, descending), pool, threshold);
+        } catch (ArithmeticException e) {
+            // Schlüssel nicht darstellbar, Liste ist noch unverändert
+            taskList.sort(comparator);
+        }
+    }
+    
+    static long priorityKey(Task task) {
+        return PRIORITY_RANK[task.getPriority().ordinal()];
+    }
+    
+    static long categoryKey(Task task) {
+        return CATEGORY_RANK[task.getCategory().ordinal()];
+    }
+    
+    static long priorityDueDateKey(Task task) {
+        return TaskSorter.withRank(PRIORITY_RANK[task.getPriority().ordinal()], TaskSorter.dueDateKey(task));
+    }
+    
+    static long categoryDueDateKey(Task task) {
+        return TaskSorter.withRank(CATEGORY_RANK[task.getCategory().ordinal()], TaskSorter.dueDateKey(task));
+    }
+    
+    private static boolean isParallel(List<Task> taskList, ForkJoinPool pool, int threshold) {
+        return pool != null && taskList.size() >= threshold && pool.getParallelism() > 1;
     }
     
     /**
@@ -107,4 +347,3 @@ public class ArrangeTaskList {
     	return Comparator.comparing(keyExtractor, naturalNullsLast());
     }
 }
-
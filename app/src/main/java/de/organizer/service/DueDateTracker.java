@@ -0,0 +1,264 @@
+package de.organizer.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import de.organizer.model.Task;
+
+/**
+ * Führt für die Anzeige von Badges die offenen Tasks nach Fälligkeit, ohne bei jeder Abfrage alle Tasks
+ * mit dem heutigen Datum zu vergleichen:
+ * <ul>
+ * <li>überfällig: dueDate vor heute</li>
+ * <li>heute fällig: dueDate heute</li>
+ * <li>bald fällig: dueDate morgen bis heute + windowDays</li>
+ * </ul>
+ * Erledigte Tasks und Tasks ohne dueDate zählen nirgends. Die offenen Tasks liegen je Epochentag
+ * (LocalDate.toEpochDay) in einer NavigableMap, die drei Anzahlen werden bei jeder Änderung
+ * mitgeführt -> die Zähler kosten O(1).
+ *
+ * Der Tageswechsel wird bei der nächsten Abfrage erkannt (Clock): pro vergangenem Tag rückt nur
+ * die Grenze weiter, angefasst werden die Tage heute und heute + windowDays. Liegt der letzte
+ * Stand mehr als das Fenster zurück oder wurde die Uhr zurückgestellt, wird neu gezählt.
+ *
+ * Der Tracker ändert Tasks nie selbst, er wird nur über Änderungen informiert (add, update, remove,
+ * doneChanged). Den Erledigt-Status setzt wer die Tasks besitzt, z.B. TaskRepository.setDone(), und
+ * meldet ihn danach mit dem vorherigen Wert -> beide Indizes bleiben über dieselben Tasks konsistent.
+ * Nicht thread-sicher.
+ */
+public class DueDateTracker {
+
+	/** Standardfenster für "bald fällig": die nächsten 7 Tage */
+	public static final int DEFAULT_WINDOW_DAYS = 7;
+
+	private final int windowDays;
+	private final Clock clock;
+
+	private final Map<Long, Task> tasksById = new HashMap<>();
+	private final NavigableMap<Long, Map<Long, Task>> openByDay = new TreeMap<>();	// nur offene Tasks mit dueDate
+
+	private long today;
+	private int overdueCount;
+	private int dueTodayCount;
+	private int dueSoonCount;
+
+	/** Fenster von DEFAULT_WINDOW_DAYS Tagen, Systemuhr. */
+	public DueDateTracker() {
+		this(DEFAULT_WINDOW_DAYS);
+	}
+
+	/**
+	 * @param windowDays so viele Tage nach heute gelten als "bald fällig"
+	 */
+	public DueDateTracker(int windowDays) {
+		this(windowDays, Clock.systemDefaultZone());
+	}
+
+	/**
+	 * @param clock liefert das heutige Datum (für Tests austauschbar)
+	 */
+	DueDateTracker(int windowDays, Clock clock) {
+		if (windowDays < 0) throw new IllegalArgumentException("windowDays darf nicht negativ sein: " + windowDays);
+		this.windowDays = windowDays;
+		this.clock = clock;
+		this.today = LocalDate.now(clock).toEpochDay();
+	}
+
+	/**
+	 * @param tasks Anfangsbestand
+	 * @throws IllegalArgumentException bei doppelten ids
+	 */
+	public DueDateTracker(int windowDays, Collection<Task> tasks) {
+		this(windowDays);
+		for (Task task : tasks) add(task);
+	}
+
+	// ------------------------- Änderungen ---------------------------
+
+	/**
+	 * Nimmt einen neuen Task auf.
+	 * @throws IllegalArgumentException wenn die id bereits vergeben ist
+	 */
+	public void add(Task task) {
+		if (tasksById.containsKey(task.getId())) {
+			throw new IllegalArgumentException("Task mit id " + task.getId() + " existiert bereits");
+		}
+		tasksById.put(task.getId(), task);
+		index(task);
+	}
+
+	/**
+	 * Ersetzt den Task mit derselben id (z.B. nach dem Bearbeiten des Fälligkeitsdatums).
+	 * @throws IllegalArgumentException wenn kein Task mit der id existiert
+	 */
+	public void update(Task task) {
+		unindex(taskOf(task.getId()));
+		tasksById.put(task.getId(), task);
+		index(task);
+	}
+
+	/**
+	 * Entfernt den Task mit der id.
+	 * @return entfernter Task oder null, wenn es keinen gab
+	 */
+	public Task remove(long id) {
+		Task task = tasksById.remove(id);
+		if (task != null) unindex(task);
+		return task;
+	}
+
+	/**
+	 * Meldet, dass sich der Erledigt-Status eines Tasks geändert hat, z.B. nach
+	 * repository.setDone(id, done) oder repository.toggleDone(id).
+	 * @param task der geänderte Task (neuer Status steht bereits in task.isDone())
+	 * @param wasDone Status vor der Änderung
+	 * @throws IllegalArgumentException wenn kein Task mit der id existiert
+	 */
+	public void doneChanged(Task task, boolean wasDone) {
+		Task known = taskOf(task.getId());
+		if (known.isDone() == wasDone) return;
+		if (wasDone) index(known);
+		else unindex(known, false);
+	}
+
+	// ------------------------- Abfragen ---------------------------
+
+	/** @return Anzahl offener Tasks mit dueDate vor heute, O(1) */
+	public int getOverdueCount() {
+		refresh();
+		return overdueCount;
+	}
+
+	/** @return Anzahl offener Tasks mit dueDate heute, O(1) */
+	public int getDueTodayCount() {
+		refresh();
+		return dueTodayCount;
+	}
+
+	/** @return Anzahl offener Tasks mit dueDate morgen bis heute + windowDays, O(1) */
+	public int getDueSoonCount() {
+		refresh();
+		return dueSoonCount;
+	}
+
+	/** @return überfällige Tasks, älteste Fälligkeit zuerst */
+	public List<Task> getOverdue() {
+		refresh();
+		return collect(openByDay.headMap(today, false), overdueCount);
+	}
+
+	/** @return heute fällige Tasks in Einfügereihenfolge */
+	public List<Task> getDueToday() {
+		refresh();
+		return collect(openByDay.subMap(today, true, today, true), dueTodayCount);
+	}
+
+	/** @return bald fällige Tasks, früheste Fälligkeit zuerst */
+	public List<Task> getDueSoon() {
+		refresh();
+		return collect(openByDay.subMap(today, false, today + windowDays, true), dueSoonCount);
+	}
+
+	/** @return Task mit der id oder null */
+	public Task get(long id) {
+		return tasksById.get(id);
+	}
+
+	/** @return Anzahl aller Tasks (auch erledigte und ohne dueDate) */
+	public int size() {
+		return tasksById.size();
+	}
+
+	/** @return das Datum, auf das sich die Zähler beziehen (nach einem eventuellen Tageswechsel) */
+	public LocalDate getToday() {
+		refresh();
+		return LocalDate.ofEpochDay(today);
+	}
+
+	public int getWindowDays() {
+		return windowDays;
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/** Rückt die Zähler auf das heutige Datum der Uhr vor. */
+	private void refresh() {
+		long now = LocalDate.now(clock).toEpochDay();
+		if (now == today) return;
+		if (now < today || now - today > windowDays + 1) {
+			today = now;
+			recount();
+			return;
+		}
+		while (today < now) {
+			overdueCount += dueTodayCount;
+			today++;
+			int newToday = sizeOf(today);
+			dueTodayCount = newToday;
+			dueSoonCount += sizeOf(today + windowDays) - newToday;
+		}
+	}
+
+	private void recount() {
+		overdueCount = 0;
+		dueTodayCount = 0;
+		dueSoonCount = 0;
+		for (Map.Entry<Long, Map<Long, Task>> day : openByDay.headMap(today + windowDays, true).entrySet()) {
+			count(day.getKey(), day.getValue().size());
+		}
+	}
+
+	private void count(long day, int delta) {
+		if (day < today) overdueCount += delta;
+		else if (day == today) dueTodayCount += delta;
+		else if (day <= today + windowDays) dueSoonCount += delta;
+	}
+
+	private int sizeOf(long day) {
+		Map<Long, Task> tasks = openByDay.get(day);
+		return tasks == null ? 0 : tasks.size();
+	}
+
+	private Task taskOf(long id) {
+		Task task = tasksById.get(id);
+		if (task == null) throw new IllegalArgumentException("Kein Task mit id " + id);
+		return task;
+	}
+
+	private void index(Task task) {
+		if (task.isDone() || task.getDueDate() == null) return;
+		refresh();
+		long day = task.getDueDate().toEpochDay();
+		openByDay.computeIfAbsent(day, d -> new LinkedHashMap<>()).put(task.getId(), task);
+		count(day, 1);
+	}
+
+	private void unindex(Task task) {
+		unindex(task, task.isDone());
+	}
+
+	/** @param done Erledigt-Status, unter dem der Task einsortiert wurde */
+	private void unindex(Task task, boolean done) {
+		if (done || task.getDueDate() == null) return;
+		refresh();
+		long day = task.getDueDate().toEpochDay();
+		Map<Long, Task> tasks = openByDay.get(day);
+		if (tasks == null || tasks.remove(task.getId()) == null) return;
+		if (tasks.isEmpty()) openByDay.remove(day);
+		count(day, -1);
+	}
+
+	private static List<Task> collect(NavigableMap<Long, Map<Long, Task>> days, int expectedSize) {
+		List<Task> result = new ArrayList<>(expectedSize);
+		for (Map<Long, Task> tasks : days.values()) result.addAll(tasks.values());
+		return result;
+	}
+}
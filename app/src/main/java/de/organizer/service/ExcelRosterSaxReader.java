@@ -0,0 +1,350 @@
+package de.organizer.service;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import de.organizer.service.ExcelRosterReader.DaySchedule;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Liest einen Dienstplan aus einer .xlsx-Datei wie ExcelRosterReader, aber per SAX direkt aus dem
+ * Tabellen-XML, statt das ganze Workbook als Objektbaum zu laden. Im Speicher liegen nur die
+ * Shared-Strings-Tabelle (einmal gelesen), die Zeitfenster und die Zellen der aktuellen Zeile;
+ * jeder Tagesplan wird nach seiner Zeile sofort weitergereicht.
+ *
+ * Das Ergebnis entspricht ExcelRosterReader.readRoster: gleiche Zeitfenster (auch die Verschiebung bei
+ * fehlenden Kopfzellen), Namen nach "/" getrennt, nur Text-Zellen als Namen, Zeilen ohne numerisches
+ * Datum werden übersprungen. Für das alte .xls-Format weiterhin ExcelRosterReader verwenden.
+ */
+public class ExcelRosterSaxReader {
+
+    private static final Logger LOGGER = Logger.getLogger(ExcelRosterSaxReader.class.getName());
+
+    /**
+     * Liest den kompletten Dienstplan als Liste (Ersatz für ExcelRosterReader.readRoster).
+     *
+     * @param excelFile Die .xlsx-Datei mit dem Dienstplan
+     * @return Liste der Tagespläne
+     * @throws IOException Bei Eingabe-/Ausgabefehlern oder fehlerhaftem XML
+     * @throws InvalidFormatException Bei ungültigem Excel-Format
+     */
+    public List<DaySchedule> readRoster(File excelFile) throws IOException, InvalidFormatException {
+        List<DaySchedule> dayScheduleList = new ArrayList<>();
+        streamRoster(excelFile, dayScheduleList::add);
+        return dayScheduleList;
+    }
+
+    /**
+     * Liest den Dienstplan zeilenweise aus dem ersten Tabellenblatt. Die erste Zeile enthält die
+     * Zeitfenster, die erste Spalte die Datumsangaben.
+     *
+     * @param excelFile Die .xlsx-Datei mit dem Dienstplan
+     * @param consumer erhält jeden Tagesplan, sobald seine Zeile gelesen ist
+     * @return Anzahl der weitergereichten Tagespläne
+     * @throws IOException Bei Eingabe-/Ausgabefehlern oder fehlerhaftem XML
+     * @throws InvalidFormatException Bei ungültigem Excel-Format
+     */
+    public int streamRoster(File excelFile, Consumer<DaySchedule> consumer) throws IOException, InvalidFormatException {
+        try (OPCPackage pkg = OPCPackage.open(excelFile, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false); // ohne Lautschrift wie XSSFCell
+
+            boolean date1904;
+            try (InputStream workbook = reader.getWorkbookData()) {
+                date1904 = isDate1904(workbook);
+            }
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                LOGGER.warning("Leeres Sheet: Keine Daten gefunden.");
+                return 0;
+            }
+            RosterHandler handler = new RosterHandler(strings, date1904, consumer);
+            try (InputStream sheet = sheets.next()) {
+                parse(sheet, handler);
+            }
+            if (handler.rowNum == 0) {
+                LOGGER.warning("Leeres Sheet: Keine Daten gefunden.");
+            } else {
+                LOGGER.info("Dienstplan erfolgreich eingelesen: " + handler.emitted + " Tage gefunden.");
+            }
+            return handler.emitted;
+        } catch (SAXException | ParserConfigurationException e) {
+            LOGGER.log(Level.SEVERE, "Fehler beim Einlesen der Excel-Datei: " + excelFile.getAbsolutePath(), e);
+            throw new IOException("Fehlerhaftes XML in " + excelFile.getName(), e);
+        } catch (InvalidFormatException e) {
+            LOGGER.log(Level.SEVERE, "Fehler beim Einlesen der Excel-Datei: " + excelFile.getAbsolutePath(), e);
+            throw e;
+        } catch (OpenXML4JException e) {
+            LOGGER.log(Level.SEVERE, "Fehler beim Einlesen der Excel-Datei: " + excelFile.getAbsolutePath(), e);
+            throw new IOException("Ungültiges Excel-Paket: " + excelFile.getName(), e);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Fehler beim Einlesen der Excel-Datei: " + excelFile.getAbsolutePath(), e);
+            throw e;
+        }
+    }
+
+    // ------------------------- Hilfsmethoden ---------------------------
+
+    private static void parse(InputStream xml, DefaultHandler handler)
+            throws IOException, SAXException, ParserConfigurationException {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        xmlReader.parse(new InputSource(xml));
+    }
+
+    /** Liest aus workbook.xml, ob Datumswerte ab 1904 zählen (workbookPr date1904). */
+    private static boolean isDate1904(InputStream workbook) throws IOException, SAXException, ParserConfigurationException {
+        boolean[] date1904 = new boolean[1];
+        parse(workbook, new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if ("workbookPr".equals(localName)) {
+                    String value = attributes.getValue("date1904");
+                    date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                }
+            }
+        });
+        return date1904[0];
+    }
+
+    /** Spaltenindex aus einem Zellbezug wie "AB12" (0-basiert). */
+    private static int columnOf(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            char c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') break;
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    /** Gelesene Zelle mit Typ wie XSSFCell.getCellType() und Textwert (bei Formeln das Ergebnis). */
+    private static final class RawCell {
+
+        private final CellType type;
+        private final String value;
+        private final boolean stringResult; // Formel mit Text-Ergebnis
+
+        RawCell(CellType type, String value, boolean stringResult) {
+            this.type = type;
+            this.value = value;
+            this.stringResult = stringResult;
+        }
+
+        /** Wie Cell.getStringCellValue(): nur Text, leere Zellen und Formeln mit Text-Ergebnis. */
+        String stringValue(int column) {
+            if (type == CellType.STRING || (type == CellType.FORMULA && stringResult)) return value;
+            if (type == CellType.BLANK) return "";
+            throw new IllegalStateException("Zelle in Spalte " + (column + 1) + " enthält keinen Text (" + type + ")");
+        }
+    }
+
+    /**
+     * SAX-Handler für das Tabellen-XML: sammelt die Zellen einer Zeile und wertet sie am Zeilenende
+     * nach denselben Regeln wie ExcelRosterReader.readRoster aus.
+     */
+    private static final class RosterHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable strings;
+        private final boolean date1904;
+        private final Consumer<DaySchedule> consumer;
+
+        private List<String> timeSlots; // null bis die Kopfzeile gelesen ist
+        private final Map<Integer, RawCell> row = new HashMap<>();
+        private int rowNum; // wie im DOM-Reader: gezählte Zeilen, nicht Zeilennummer
+        private int emitted;
+
+        // Zustand der aktuellen Zelle
+        private int column;
+        private String type;
+        private boolean hasFormula;
+        private boolean hasValue;
+        private boolean inInlineString;
+        private boolean inPhonetic;
+        private boolean collecting;
+        private final StringBuilder text = new StringBuilder();
+
+        RosterHandler(ReadOnlySharedStringsTable strings, boolean date1904, Consumer<DaySchedule> consumer) {
+            this.strings = strings;
+            this.date1904 = date1904;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    row.clear();
+                    column = -1;
+                    break;
+                case "c":
+                    String reference = attributes.getValue("r");
+                    column = reference == null ? column + 1 : columnOf(reference);
+                    type = attributes.getValue("t");
+                    hasFormula = false;
+                    hasValue = false;
+                    text.setLength(0);
+                    break;
+                case "f":
+                    hasFormula = true;
+                    break;
+                case "v":
+                    hasValue = true;
+                    collecting = true;
+                    break;
+                case "is":
+                    inInlineString = true;
+                    hasValue = true;
+                    break;
+                case "rPh":
+                    inPhonetic = true;
+                    break;
+                case "t":
+                    collecting = inInlineString && !inPhonetic;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (collecting) text.append(ch, start, length);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v":
+                case "t":
+                    collecting = false;
+                    break;
+                case "is":
+                    inInlineString = false;
+                    break;
+                case "rPh":
+                    inPhonetic = false;
+                    break;
+                case "c":
+                    row.put(column, toCell());
+                    break;
+                case "row":
+                    rowNum++;
+                    if (timeSlots == null) readHeader();
+                    else readDay();
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private RawCell toCell() {
+            String value = text.toString();
+            if (hasFormula) return new RawCell(CellType.FORMULA, value, "str".equals(type));
+            if (type == null || "n".equals(type)) {
+                return hasValue ? new RawCell(CellType.NUMERIC, value, false) : new RawCell(CellType.BLANK, "", false);
+            }
+            switch (type) {
+                case "s":
+                    String shared = hasValue ? strings.getItemAt(Integer.parseInt(value.trim())).getString() : "";
+                    return new RawCell(CellType.STRING, shared, false);
+                case "inlineStr":
+                    return new RawCell(CellType.STRING, new XSSFRichTextString(value).getString(), false);
+                case "str":
+                    return new RawCell(CellType.STRING, value, false);
+                case "b":
+                    return new RawCell(CellType.BOOLEAN, value, false);
+                case "e":
+                    return new RawCell(CellType.ERROR, value, false);
+                default:
+                    return new RawCell(CellType.NUMERIC, value, false);
+            }
+        }
+
+        /** Zeitfenster aus allen vorhandenen Zellen ab Spalte 1 (fehlende Zellen verschieben wie im DOM-Reader). */
+        private void readHeader() {
+            timeSlots = new ArrayList<>();
+            int lastColumn = row.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+            for (int index = 1; index <= lastColumn; index++) {
+                RawCell cell = row.get(index);
+                if (cell != null) {
+                    timeSlots.add(cell.stringValue(index).trim());
+                }
+            }
+        }
+
+        private void readDay() {
+            RawCell dateCell = row.get(0);
+            if (dateCell == null) {
+                LOGGER.info("Leere oder fehlerhafte Zeile bei Index " + rowNum + " übersprungen.");
+                return;
+            }
+            if (dateCell.type != CellType.NUMERIC) {
+                LOGGER.warning("Ungültiges Datum in Zeile " + rowNum + ". Zeile wird übersprungen.");
+                return;
+            }
+            LocalDate date;
+            try {
+                double value = Double.parseDouble(dateCell.value);
+                Date javaDate = DateUtil.getJavaDate(value, date1904);
+                if (javaDate == null) throw new IllegalArgumentException("Kein gültiges Excel-Datum: " + value);
+                date = javaDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Fehler beim Parsen des Datums in Zeile " + rowNum, e);
+                return;
+            }
+
+            DaySchedule daySchedule = new DaySchedule(date);
+            for (int index = 0; index < timeSlots.size(); index++) {
+                RawCell nameCell = row.get(index + 1);
+                if (nameCell == null) {
+                    LOGGER.fine("Keine Zuweisung für " + timeSlots.get(index) + " am " + date);
+                    continue;
+                }
+                String nameCellString;
+                if (nameCell.type == CellType.STRING) {
+                    nameCellString = nameCell.value.trim();
+                } else {
+                    nameCellString = "";
+                    LOGGER.fine("Unerwarteter Zelltyp für Namen in Zeile " + rowNum + ", Spalte " + (index + 2));
+                }
+                if (!nameCellString.isEmpty()) {
+                    for (String name : nameCellString.split("/")) {
+                        daySchedule.addAssignment(timeSlots.get(index), name.trim());
+                    }
+                }
+            }
+            emitted++;
+            consumer.accept(daySchedule);
+        }
+    }
+}
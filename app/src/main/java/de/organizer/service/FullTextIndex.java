@@ -0,0 +1,276 @@
+package de.organizer.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import de.organizer.model.Memo;
+import de.organizer.model.Task;
+
+/**
+ * Invertierter Index für die Volltextsuche: je Begriff (siehe GermanTokenizer) eine aufsteigende
+ * Liste der Slots, in denen er vorkommt. Eine Suche verlangt alle Wörter der Anfrage (UND);
+ * das letzte Wort gilt als Präfix, solange die Anfrage nicht mit einem Trennzeichen endet
+ * ("einka" findet "Einkaufen", "einka " nicht). Treffer kommen in Einfügereihenfolge.
+ *
+ * Wie bei TaskRepository muss jede Änderung über den Index laufen (add, update, remove),
+ * sonst wird nach dem alten Text gesucht. Nicht thread-sicher.
+ *
+ * @param <T> indizierter Typ, z.B. Task oder Memo
+ */
+public class FullTextIndex<T> {
+
+	// Gelöschte Slots bleiben bis zum Verdichten in den Listen und werden beim Suchen übersprungen
+	private static final int MIN_FREE_SLOTS_TO_COMPACT = 1024;
+
+	private final ToLongFunction<T> idOf;
+	private final Function<T, String> textOf;
+
+	private final List<T> slots = new ArrayList<>();
+	private final List<Postings[]> termsBySlot = new ArrayList<>();
+	private final Map<Long, Integer> slotById = new HashMap<>();
+	private final BitSet live = new BitSet();
+	private final NavigableMap<String, Postings> postingsByTerm = new TreeMap<>();
+
+	/**
+	 * @param idOf liefert die eindeutige id eines Elements
+	 * @param textOf liefert den zu durchsuchenden Text (null erlaubt)
+	 */
+	public FullTextIndex(ToLongFunction<T> idOf, Function<T, String> textOf) {
+		this.idOf = idOf;
+		this.textOf = textOf;
+	}
+
+	/** @return Index über Titel und Beschreibung von Tasks */
+	public static FullTextIndex<Task> forTasks() {
+		return new FullTextIndex<>(Task::getId, task -> join(task.getTitle(), task.getDescription()));
+	}
+
+	/** @return Index über Titel und Inhalt von Notizen */
+	public static FullTextIndex<Memo> forMemos() {
+		return new FullTextIndex<>(Memo::getId, memo -> join(memo.getTitle(), memo.getContent()));
+	}
+
+	// ------------------------- Änderungen ---------------------------
+
+	/**
+	 * Nimmt ein neues Element auf.
+	 * @throws IllegalArgumentException wenn die id bereits vergeben ist
+	 */
+	public void add(T item) {
+		long id = idOf.applyAsLong(item);
+		if (slotById.containsKey(id)) {
+			throw new IllegalArgumentException("Element mit id " + id + " ist bereits indiziert");
+		}
+		int slot = slots.size();
+		slots.add(item);
+		slotById.put(id, slot);
+		live.set(slot);
+
+		Set<String> terms = GermanTokenizer.distinctTokens(textOf.apply(item));
+		Postings[] postings = new Postings[terms.size()];
+		int i = 0;
+		for (String term : terms) {
+			postings[i] = postingsByTerm.computeIfAbsent(term, Postings::new);
+			postings[i++].add(slot);
+		}
+		termsBySlot.add(postings);
+	}
+
+	/**
+	 * Indiziert das Element mit derselben id neu (z.B. nach dem Bearbeiten).
+	 * Es rückt dabei an das Ende der Einfügereihenfolge.
+	 * @throws IllegalArgumentException wenn kein Element mit der id indiziert ist
+	 */
+	public void update(T item) {
+		long id = idOf.applyAsLong(item);
+		if (remove(id) == null) throw new IllegalArgumentException("Kein Element mit id " + id);
+		add(item);
+	}
+
+	/**
+	 * Entfernt das Element mit der id aus dem Index.
+	 * @return entferntes Element oder null, wenn es keines gab
+	 */
+	public T remove(long id) {
+		Integer slot = slotById.remove(id);
+		if (slot == null) return null;
+
+		T item = slots.get(slot);
+		slots.set(slot, null);
+		termsBySlot.set(slot, null);
+		live.clear(slot);
+		compactIfSparse();
+		return item;
+	}
+
+	/** @return Anzahl der indizierten Elemente */
+	public int size() {
+		return slotById.size();
+	}
+
+	// ------------------------- Suche ---------------------------
+
+	/**
+	 * @param query Suchanfrage
+	 * @return alle Treffer in Einfügereihenfolge
+	 */
+	public List<T> search(String query) {
+		return search(query, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Sucht Elemente, die alle Wörter der Anfrage enthalten; das letzte Wort als Präfix,
+	 * wenn die Anfrage nicht mit einem Trennzeichen endet.
+	 * @param query Suchanfrage; ohne Wörter gibt es keine Treffer
+	 * @param limit höchstens so viele Treffer (z.B. für Vorschläge beim Tippen)
+	 * @return die ersten Treffer in Einfügereihenfolge
+	 */
+	public List<T> search(String query, int limit) {
+		if (limit < 0) throw new IllegalArgumentException("limit darf nicht negativ sein: " + limit);
+		List<String> words = GermanTokenizer.tokenize(query);
+		if (words.isEmpty() || limit == 0) return new ArrayList<>();
+
+		String prefix = GermanTokenizer.endsWithSeparator(query) ? null : words.remove(words.size() - 1);
+		List<Postings> required = new ArrayList<>();
+		for (String word : words) {
+			Postings postings = postingsByTerm.get(word);
+			if (postings == null) return new ArrayList<>();
+			if (!required.contains(postings)) required.add(postings);
+		}
+		Collection<Postings> prefixTerms = null;
+		if (prefix != null) {
+			prefixTerms = postingsByTerm.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+			if (prefixTerms.isEmpty()) return new ArrayList<>();
+			if (prefixTerms.size() == 1) {		// eindeutiges Präfix -> wie ein ganzes Wort
+				Postings postings = prefixTerms.iterator().next();
+				if (!required.contains(postings)) required.add(postings);
+				prefix = null;
+			}
+		}
+		required.sort(Comparator.comparingInt(p -> p.size));
+
+		// Kleinste Liste treibt die Suche, die übrigen werden per Galopp-Suche geprüft
+		int[] driver;
+		int driverSize;
+		if (prefix != null && (required.isEmpty() || totalSize(prefixTerms) < required.get(0).size)) {
+			driver = union(prefixTerms);
+			driverSize = driver.length;
+			prefix = null;
+		} else {
+			Postings smallest = required.remove(0);
+			driver = smallest.slots;
+			driverSize = smallest.size;
+		}
+
+		List<T> result = new ArrayList<>(Math.min(limit, driverSize));
+		int[] cursors = new int[required.size()];
+		candidates:
+		for (int i = 0; i < driverSize && result.size() < limit; i++) {
+			int slot = driver[i];
+			if (!live.get(slot)) continue;
+			for (int j = 0; j < cursors.length; j++) {
+				Postings postings = required.get(j);
+				cursors[j] = postings.seek(cursors[j], slot);
+				if (cursors[j] == postings.size) break candidates;		// Liste erschöpft -> keine weiteren Treffer
+				if (postings.slots[cursors[j]] != slot) continue candidates;
+			}
+			if (prefix != null && !hasTermWithPrefix(slot, prefix)) continue;
+			result.add(slots.get(slot));
+		}
+		return result;
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private static String join(String title, String text) {
+		if (text == null || text.isEmpty()) return title;
+		return title == null ? text : title + " " + text;
+	}
+
+	/** Obergrenze der Treffer für ein Präfix (Summe der Listenlängen). */
+	private static long totalSize(Collection<Postings> lists) {
+		long size = 0;
+		for (Postings postings : lists) size += postings.size;
+		return size;
+	}
+
+	/** Vereinigt mehrere Listen aufsteigend und ohne Duplikate. */
+	private static int[] union(Collection<Postings> lists) {
+		BitSet bits = new BitSet();
+		for (Postings postings : lists) {
+			for (int i = 0; i < postings.size; i++) bits.set(postings.slots[i]);
+		}
+		return bits.stream().toArray();
+	}
+
+	private boolean hasTermWithPrefix(int slot, String prefix) {
+		for (Postings postings : termsBySlot.get(slot)) {
+			if (postings.term.startsWith(prefix)) return true;
+		}
+		return false;
+	}
+
+	/** Baut den Index neu auf, wenn mehr als die Hälfte der Slots frei ist (amortisiert O(1) je remove). */
+	private void compactIfSparse() {
+		int free = slots.size() - slotById.size();
+		if (free < MIN_FREE_SLOTS_TO_COMPACT || free < slotById.size()) return;
+
+		List<T> remaining = new ArrayList<>(slotById.size());
+		for (T item : slots) {
+			if (item != null) remaining.add(item);
+		}
+
+		slots.clear();
+		termsBySlot.clear();
+		slotById.clear();
+		live.clear();
+		postingsByTerm.clear();
+		for (T item : remaining) add(item);
+	}
+
+	/** Aufsteigende Slot-Liste eines Begriffs (ohne Boxing). */
+	private static final class Postings {
+
+		private final String term;
+		private int[] slots = new int[4];
+		private int size;
+
+		Postings(String term) {
+			this.term = term;
+		}
+
+		void add(int slot) {
+			if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+			slots[size++] = slot;
+		}
+
+		/**
+		 * Galopp-Suche ab from.
+		 * @return erster Index >= from mit slots[index] >= slot, oder size
+		 */
+		int seek(int from, int slot) {
+			int step = 1;
+			int low = from;
+			int high = from;
+			while (high < size && slots[high] < slot) {
+				low = high + 1;
+				high += step;
+				step <<= 1;
+			}
+			high = Math.min(high, size);
+			int index = Arrays.binarySearch(slots, low, high, slot);
+			return index >= 0 ? index : -index - 1;
+		}
+	}
+}
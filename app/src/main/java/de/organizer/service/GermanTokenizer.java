@@ -0,0 +1,71 @@
+package de.organizer.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Zerlegt deutschen Text in Suchbegriffe: Wörter sind Folgen von Buchstaben und Ziffern,
+ * alles andere trennt. Begriffe werden klein geschrieben und Umlaute ausgeschrieben
+ * (ä -> ae, ö -> oe, ü -> ue, ß -> ss), damit "Müller", "MUELLER" und "mueller" gleich gefunden werden.
+ * Der Text wird vorher nach NFC normalisiert -> zerlegte Zeichen (u + U+0308, e + U+0301) ergeben
+ * dieselben Begriffe wie die zusammengesetzten. Übrige kombinierende Zeichen bleiben Teil des Wortes.
+ */
+final class GermanTokenizer {
+
+	private GermanTokenizer() {}
+
+	/**
+	 * @param text beliebiger Text oder null
+	 * @return normalisierte Begriffe in Textreihenfolge (mit Wiederholungen)
+	 */
+	static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null) return tokens;
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+		StringBuilder token = new StringBuilder();
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				appendFolded(token, Character.toLowerCase(c));
+			} else if (isCombiningMark(c) && token.length() > 0) {
+				token.append(c);
+			} else if (token.length() > 0) {
+				tokens.add(token.toString());
+				token.setLength(0);
+			}
+		}
+		if (token.length() > 0) tokens.add(token.toString());
+		return tokens;
+	}
+
+	/** @return normalisierte Begriffe ohne Wiederholungen */
+	static Set<String> distinctTokens(String text) {
+		return new LinkedHashSet<>(tokenize(text));
+	}
+
+	/** @return true, wenn der Text mit einem Trennzeichen endet (letztes Wort fertig getippt) */
+	static boolean endsWithSeparator(String text) {
+		if (text.isEmpty()) return false;
+		char last = text.charAt(text.length() - 1);
+		return !Character.isLetterOrDigit(last) && !isCombiningMark(last);
+	}
+
+	private static boolean isCombiningMark(char c) {
+		int type = Character.getType(c);
+		return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK;
+	}
+
+	private static void appendFolded(StringBuilder token, char c) {
+		switch (c) {
+			case 'ä': token.append("ae"); break;
+			case 'ö': token.append("oe"); break;
+			case 'ü': token.append("ue"); break;
+			case 'ß': token.append("ss"); break;
+			default: token.append(c);
+		}
+	}
+}
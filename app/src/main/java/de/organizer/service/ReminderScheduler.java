@@ -0,0 +1,270 @@
+package de.organizer.service;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.organizer.model.Task;
+
+/**
+ * Löst Erinnerungen (Task.reminderDate) zum fälligen Zeitpunkt aus, ohne regelmäßig alle Tasks zu prüfen.
+ *
+ * Die Erinnerungen liegen in einem Timing Wheel: WHEEL_SIZE Fächer zu je tickMillis, ein Fach hält eine
+ * doppelt verkettete Liste der Erinnerungen, deren Tick auf das Fach fällt (Tick modulo WHEEL_SIZE).
+ * schedule() und cancel() kosten damit O(1); ein Tick prüft nur das aktuelle Fach. Weiter entfernte
+ * Erinnerungen liegen im selben Fach und werden beim Durchlauf übersprungen, bis ihr Tick erreicht ist.
+ *
+ * Fällige Erinnerungen gehen an die Listener auf einem begrenzten Executor (feste Threadzahl,
+ * Warteschlange mit fester Kapazität). Ist die Warteschlange voll, stellt der Tick-Thread selbst zu
+ * -> das Rad bremst, Erinnerungen gehen aber nicht verloren. Die Verzögerung zwischen Fälligkeit und
+ * Zustellung wird gemessen (getAverageDispatchLatencyMillis, getMaxDispatchLatencyMillis).
+ *
+ * Wie bei TaskRepository muss jede Änderung gemeldet werden: nach dem Bearbeiten oder Erledigen eines
+ * Tasks schedule() mit dem neuen Stand aufrufen, nach dem Löschen cancel(). Thread-sicher.
+ * Erinnerungen, die beim Einplanen schon fällig sind, werden beim nächsten Tick zugestellt.
+ */
+public class ReminderScheduler implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(ReminderScheduler.class.getName());
+
+	/** Anzahl der Fächer (Zweierpotenz); eine Umdrehung deckt WHEEL_SIZE * tickMillis ab */
+	static final int WHEEL_SIZE = 512;
+	private static final int MASK = WHEEL_SIZE - 1;
+
+	public static final long DEFAULT_TICK_MILLIS = 100;
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private final Clock clock;
+	private final long tickMillis;
+	private final Entry[] wheel = new Entry[WHEEL_SIZE];	// Kopf je Fach (Wächter)
+	private final Map<Long, Entry> entriesById = new HashMap<>();
+	private long processedTick;								// alle Ticks bis einschließlich sind ausgelöst
+
+	private final List<Consumer<Task>> listeners = new CopyOnWriteArrayList<>();
+	private final ThreadPoolExecutor dispatcher;
+	private final ScheduledExecutorService ticker;
+
+	private final LongAdder dispatched = new LongAdder();
+	private final LongAdder latencySumMillis = new LongAdder();
+	private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+	/** Standard: ein Zustell-Thread, 100 ms Auflösung. */
+	public ReminderScheduler() {
+		this(1, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * @param dispatchThreads Anzahl der Threads, auf denen die Listener laufen
+	 * @param queueCapacity Höchstzahl wartender Zustellungen
+	 */
+	public ReminderScheduler(int dispatchThreads, int queueCapacity) {
+		this(Clock.systemDefaultZone(), DEFAULT_TICK_MILLIS, dispatchThreads, queueCapacity, true);
+	}
+
+	/**
+	 * @param clock Uhr, deren Zeitzone auch reminderDate umrechnet (für Tests austauschbar)
+	 * @param autoTick false = kein Tick-Thread, Tests rufen advance() selbst auf
+	 */
+	ReminderScheduler(Clock clock, long tickMillis, int dispatchThreads, int queueCapacity, boolean autoTick) {
+		if (tickMillis < 1) throw new IllegalArgumentException("tickMillis muss positiv sein: " + tickMillis);
+		if (dispatchThreads < 1) throw new IllegalArgumentException("Mindestens ein Zustell-Thread nötig: " + dispatchThreads);
+		this.clock = clock;
+		this.tickMillis = tickMillis;
+		this.processedTick = clock.millis() / tickMillis;
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			Entry head = new Entry(null, 0, 0);
+			head.prev = head.next = head;
+			wheel[i] = head;
+		}
+		this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), daemon("ReminderScheduler-Dispatch"),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		if (autoTick) {
+			this.ticker = Executors.newSingleThreadScheduledExecutor(daemon("ReminderScheduler-Tick"));
+			ticker.scheduleAtFixedRate(() -> advance(clock.millis()), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+		} else {
+			this.ticker = null;
+		}
+	}
+
+	// ------------------------- Listener ---------------------------
+
+	/** @param listener wird für jede fällige Erinnerung mit dem eingeplanten Task aufgerufen (auf einem Zustell-Thread) */
+	public void addListener(Consumer<Task> listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener(Consumer<Task> listener) {
+		listeners.remove(listener);
+	}
+
+	// ------------------------- Einplanen ---------------------------
+
+	/**
+	 * Plant die Erinnerung des Tasks ein oder ersetzt eine bereits eingeplante mit derselben id.
+	 * Erledigte Tasks und Tasks ohne reminderDate werden nur ausgeplant.
+	 * @param task neuer Stand des Tasks (nach add, Bearbeiten, setDone oder toggleDone)
+	 */
+	public synchronized void schedule(Task task) {
+		unlink(entriesById.remove(task.getId()));
+		LocalDateTime reminder = task.getReminderDate();
+		if (task.isDone() || reminder == null) return;
+
+		long dueMillis = reminder.atZone(clock.getZone()).toInstant().toEpochMilli();
+		long dueTick = Math.max(Math.floorDiv(dueMillis + tickMillis - 1, tickMillis), processedTick + 1);
+		Entry entry = new Entry(task, dueMillis, dueTick);
+		Entry head = wheel[(int) (dueTick & MASK)];
+		entry.prev = head.prev;
+		entry.next = head;
+		head.prev.next = entry;
+		head.prev = entry;
+		entriesById.put(task.getId(), entry);
+	}
+
+	/** Plant alle Tasks ein, z.B. nach dem Laden. */
+	public synchronized void scheduleAll(Collection<Task> tasks) {
+		for (Task task : tasks) schedule(task);
+	}
+
+	/**
+	 * Plant die Erinnerung des Tasks mit der id aus (z.B. nach dem Löschen).
+	 * @return true, wenn eine Erinnerung eingeplant war
+	 */
+	public synchronized boolean cancel(long id) {
+		Entry entry = entriesById.remove(id);
+		unlink(entry);
+		return entry != null;
+	}
+
+	/** @return true, wenn für die id eine Erinnerung aussteht */
+	public synchronized boolean isScheduled(long id) {
+		return entriesById.containsKey(id);
+	}
+
+	/** @return Anzahl ausstehender Erinnerungen */
+	public synchronized int size() {
+		return entriesById.size();
+	}
+
+	// ------------------------- Zustellung ---------------------------
+
+	/**
+	 * Löst alle bis nowMillis fälligen Erinnerungen aus. Läuft normalerweise auf dem Tick-Thread;
+	 * liegt der letzte Tick mehr als eine Umdrehung zurück (z.B. nach Standby), wird das Rad einmal ganz durchlaufen.
+	 * @param nowMillis aktuelle Zeit in Millisekunden seit 1970
+	 */
+	void advance(long nowMillis) {
+		List<Entry> due = new ArrayList<>();
+		synchronized (this) {
+			long nowTick = nowMillis / tickMillis;
+			if (nowTick - processedTick >= WHEEL_SIZE) {
+				for (Entry head : wheel) collectDue(head, nowTick, due);
+			} else {
+				for (long tick = processedTick + 1; tick <= nowTick; tick++) collectDue(wheel[(int) (tick & MASK)], tick, due);
+			}
+			processedTick = Math.max(processedTick, nowTick);
+		}
+		for (Entry entry : due) dispatcher.execute(() -> dispatch(entry));
+	}
+
+	/** @return Anzahl zugestellter Erinnerungen */
+	public long getDispatchedCount() {
+		return dispatched.sum();
+	}
+
+	/** @return mittlere Verzögerung zwischen Fälligkeit und Aufruf der Listener */
+	public double getAverageDispatchLatencyMillis() {
+		long count = dispatched.sum();
+		return count == 0 ? 0 : (double) latencySumMillis.sum() / count;
+	}
+
+	/** @return größte Verzögerung zwischen Fälligkeit und Aufruf der Listener */
+	public long getMaxDispatchLatencyMillis() {
+		return maxLatencyMillis.get();
+	}
+
+	/** Beendet Tick- und Zustell-Thread; bereits angenommene Zustellungen laufen noch zu Ende. */
+	@Override
+	public void close() {
+		if (ticker != null) ticker.shutdownNow();
+		dispatcher.shutdown();
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/** Hängt alle Einträge des Fachs mit Tick <= maxTick aus und sammelt sie. */
+	private void collectDue(Entry head, long maxTick, List<Entry> due) {
+		Entry entry = head.next;
+		while (entry != head) {
+			Entry next = entry.next;
+			if (entry.dueTick <= maxTick) {
+				unlink(entry);
+				entriesById.remove(entry.task.getId());
+				due.add(entry);
+			}
+			entry = next;
+		}
+	}
+
+	private void dispatch(Entry entry) {
+		long latency = Math.max(0, clock.millis() - entry.dueMillis);
+		dispatched.increment();
+		latencySumMillis.add(latency);
+		maxLatencyMillis.accumulateAndGet(latency, Math::max);
+		for (Consumer<Task> listener : listeners) {
+			try {
+				listener.accept(entry.task);
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.WARNING, "Erinnerungs-Listener für Task " + entry.task.getId() + " fehlgeschlagen", e);
+			}
+		}
+	}
+
+	private static void unlink(Entry entry) {
+		if (entry == null) return;
+		entry.prev.next = entry.next;
+		entry.next.prev = entry.prev;
+		entry.prev = entry.next = null;
+	}
+
+	private static ThreadFactory daemon(String name) {
+		return runnable -> {
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/** Eingeplante Erinnerung, Glied der Liste ihres Fachs. */
+	private static final class Entry {
+
+		private final Task task;
+		private final long dueMillis;
+		private final long dueTick;
+		private Entry prev;
+		private Entry next;
+
+		Entry(Task task, long dueMillis, long dueTick) {
+			this.task = task;
+			this.dueMillis = dueMillis;
+			this.dueTick = dueTick;
+		}
+	}
+}
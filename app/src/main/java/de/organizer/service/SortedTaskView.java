@@ -0,0 +1,182 @@
+package de.organizer.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import de.organizer.model.Task;
+
+/**
+ * Dauerhaft sortierte Sicht auf eine Task-Sammlung: statt nach jeder Änderung die ganze Liste
+ * neu zu sortieren (O(n log n)), wird nur der geänderte Task umgehängt (O(log n)).
+ *
+ * Tasks werden über ihre id identifiziert. Gleichrangige Tasks stehen in Einfügereihenfolge,
+ * update() behält den Platz bei -> gleiche Reihenfolge wie ArrangeTaskList auf einer Liste,
+ * in der geänderte Tasks an ihrer Stelle ersetzt werden. Nicht thread-sicher.
+ */
+public class SortedTaskView implements Iterable<Task> {
+
+	private final TaskOrder order;
+	private final NavigableSet<Entry> entries;
+	private final Map<Long, Entry> entriesById = new HashMap<>();
+	private long nextSequence;
+
+	/**
+	 * @param order Sortierung der Sicht
+	 */
+	public SortedTaskView(TaskOrder order) {
+		this.order = order;
+		this.entries = new TreeSet<>(Comparator.comparing((Entry e) -> e.task, order.comparator())
+				.thenComparingLong(e -> e.sequence));
+	}
+
+	/**
+	 * @param order Sortierung der Sicht
+	 * @param tasks Anfangsbestand (in dieser Reihenfolge eingefügt)
+	 */
+	public SortedTaskView(TaskOrder order, Collection<Task> tasks) {
+		this(order);
+		for (Task task : tasks) add(task);
+	}
+
+	/**
+	 * Fügt einen Task ein; existiert die id bereits, wird er wie bei update() ersetzt.
+	 * @param task einzufügender Task
+	 */
+	public void add(Task task) {
+		if (entriesById.containsKey(task.getId())) {
+			update(task);
+			return;
+		}
+		Entry entry = new Entry(task, nextSequence++);
+		entries.add(entry);
+		entriesById.put(task.getId(), entry);
+	}
+
+	/**
+	 * Ersetzt den Task mit derselben id und hängt ihn an die neue Position um.
+	 * Unbekannte Tasks werden eingefügt.
+	 * @param task geänderter Task (z.B. neu gebaut mit neuem Fälligkeitsdatum)
+	 */
+	public void update(Task task) {
+		Entry old = entriesById.get(task.getId());
+		if (old == null) {
+			add(task);
+			return;
+		}
+		entries.remove(old);
+		Entry entry = new Entry(task, old.sequence);
+		entries.add(entry);
+		entriesById.put(task.getId(), entry);
+	}
+
+	/**
+	 * Entfernt den Task mit der id.
+	 * @return true, wenn ein Task entfernt wurde
+	 */
+	public boolean remove(long id) {
+		Entry entry = entriesById.remove(id);
+		if (entry == null) return false;
+		entries.remove(entry);
+		return true;
+	}
+
+	/** @return true, wenn ein Task mit der id enthalten ist */
+	public boolean contains(long id) {
+		return entriesById.containsKey(id);
+	}
+
+	/** @return Anzahl der Tasks */
+	public int size() {
+		return entries.size();
+	}
+
+	/** @return true, wenn die Sicht leer ist */
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/** @return Sortierung der Sicht */
+	public TaskOrder getOrder() {
+		return order;
+	}
+
+	/**
+	 * Die ersten limit Tasks, z.B. "die nächsten 10 fälligen" bei TaskOrder.DUE_DATE.
+	 * Kostet O(log n + limit), der Rest der Sicht wird nicht angefasst.
+	 * @param limit Höchstanzahl
+	 * @return neue Liste mit höchstens limit Tasks
+	 */
+	public List<Task> first(int limit) {
+		return collect(entries.iterator(), limit);
+	}
+
+	/**
+	 * Die limit Tasks hinter einem enthaltenen Task (zum Weiterblättern).
+	 * @param id id des Tasks, hinter dem begonnen wird
+	 * @param limit Höchstanzahl
+	 * @return neue Liste mit höchstens limit Tasks
+	 * @throws IllegalArgumentException wenn kein Task mit der id enthalten ist
+	 */
+	public List<Task> after(long id, int limit) {
+		Entry entry = entriesById.get(id);
+		if (entry == null) throw new IllegalArgumentException("Task nicht in der Sicht: " + id);
+		return collect(entries.tailSet(entry, false).iterator(), limit);
+	}
+
+	/**
+	 * @return alle Tasks in sortierter Reihenfolge als neue Liste
+	 */
+	public List<Task> toList() {
+		return collect(entries.iterator(), entries.size());
+	}
+
+	/**
+	 * Iteriert in sortierter Reihenfolge; Änderungen an der Sicht während der Iteration sind nicht erlaubt.
+	 */
+	@Override
+	public Iterator<Task> iterator() {
+		Iterator<Entry> iterator = entries.iterator();
+		return new Iterator<Task>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Task next() {
+				return iterator.next().task;
+			}
+		};
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private static List<Task> collect(Iterator<Entry> iterator, int limit) {
+		if (limit < 0) throw new IllegalArgumentException("limit darf nicht negativ sein: " + limit);
+		List<Task> result = new ArrayList<>(Math.min(limit, 64));
+		while (result.size() < limit && iterator.hasNext()) {
+			result.add(iterator.next().task);
+		}
+		return result;
+	}
+
+	/** Task mit Einfügenummer -> eindeutige Position auch bei gleichem Sortierschlüssel */
+	private static final class Entry {
+
+		final Task task;
+		final long sequence;
+
+		Entry(Task task, long sequence) {
+			this.task = task;
+			this.sequence = sequence;
+		}
+	}
+}
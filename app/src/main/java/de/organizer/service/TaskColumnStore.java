@@ -0,0 +1,357 @@
+package de.organizer.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.organizer.io.StringDeduplicator;
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Speichersparende Ablage großer Task-Bestände als Spalten statt als Task-Objekte:
+ * <ul>
+ * <li>id als long[]</li>
+ * <li>createdAt und reminderDate als Epochensekunden (long[]) plus Nanosekunden (int[]),
+ * dueDate als Epochentag (int[]); Zeitpunkte ohne Zeitzone, also wie LocalDateTime bei UTC</li>
+ * <li>Category und Priority als Ordinal (byte[]), done als BitSet</li>
+ * <li>Titel und Beschreibung als String-Referenzen über einen StringDeduplicator</li>
+ * </ul>
+ * Zugriff über Position: primitive Getter für Scans ohne Objekterzeugung, View als
+ * wiederverwendbarer Cursor mit den Gettern von Task, toTask() wenn ein echter Task gebraucht wird.
+ *
+ * Große CSV-Dateien am besten direkt einlesen, ohne die Task-Liste aufzubauen:
+ * <pre>
+ * TaskColumnStore store = new TaskColumnStore();
+ * try (Stream&lt;Task&gt; tasks = TaskCSVHandler.streamTasksFromCSV(file)) {
+ *     tasks.forEach(store::add);
+ * }
+ * </pre>
+ * Nicht thread-sicher.
+ */
+public class TaskColumnStore {
+
+	/** Epochentag für "kein Fälligkeitsdatum" */
+	public static final int NO_DUE_DATE = Integer.MIN_VALUE;
+
+	private static final long NO_REMINDER = Long.MIN_VALUE;
+
+	private static final Category[] CATEGORIES = Category.values();
+	private static final Priority[] PRIORITIES = Priority.values();
+
+	// Annahmen für die Schätzung (64-Bit-JVM mit Compressed Oops, kompakte Strings)
+	private static final int OBJECT_HEADER = 12;
+	private static final int ARRAY_HEADER = 16;
+	private static final int REFERENCE = 4;
+
+	private final StringDeduplicator pool;
+
+	private long[] ids;
+	private long[] createdSeconds;
+	private int[] createdNanos;
+	private int[] dueDays;
+	private long[] reminderSeconds;
+	private int[] reminderNanos;
+	private byte[] categories;
+	private byte[] priorities;
+	private final BitSet done = new BitSet();
+	private String[] titles;
+	private String[] descriptions;
+	private int size;
+
+	public TaskColumnStore() {
+		this(16, new StringDeduplicator());
+	}
+
+	/**
+	 * @param tasks Anfangsbestand in dieser Reihenfolge
+	 */
+	public TaskColumnStore(Collection<Task> tasks) {
+		this(Math.max(tasks.size(), 1), new StringDeduplicator());
+		for (Task task : tasks) add(task);
+	}
+
+	/**
+	 * @param initialCapacity Platz für so viele Tasks, bevor vergrößert wird
+	 * @param pool Pool für Titel und Beschreibungen
+	 */
+	public TaskColumnStore(int initialCapacity, StringDeduplicator pool) {
+		if (initialCapacity < 1) throw new IllegalArgumentException("initialCapacity muss positiv sein: " + initialCapacity);
+		this.pool = pool;
+		allocate(initialCapacity);
+	}
+
+	// ------------------------- Änderungen ---------------------------
+
+	/**
+	 * Hängt einen Task an. Der Task selbst wird nicht referenziert.
+	 * @return Position des Tasks
+	 * @throws IllegalArgumentException bei einem Fälligkeitsdatum außerhalb des int-Bereichs der Epochentage
+	 */
+	public int add(Task task) {
+		if (size == ids.length) allocate(size + (size >> 1) + 1);
+		write(size, task);
+		return size++;
+	}
+
+	/**
+	 * Überschreibt die Position mit den Werten des Tasks (z.B. nach dem Bearbeiten).
+	 */
+	public void set(int index, Task task) {
+		checkIndex(index);
+		write(index, task);
+	}
+
+	private void write(int index, Task task) {
+		ids[index] = task.getId();
+		createdSeconds[index] = task.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+		createdNanos[index] = task.getCreatedAt().getNano();
+		dueDays[index] = task.getDueDate() == null ? NO_DUE_DATE : toDueDay(task.getDueDate());
+		LocalDateTime reminder = task.getReminderDate();
+		reminderSeconds[index] = reminder == null ? NO_REMINDER : reminder.toEpochSecond(ZoneOffset.UTC);
+		reminderNanos[index] = reminder == null ? 0 : reminder.getNano();
+		categories[index] = (byte) task.getCategory().ordinal();
+		priorities[index] = (byte) task.getPriority().ordinal();
+		done.set(index, task.isDone());
+		titles[index] = pool.deduplicate(task.getTitle());
+		descriptions[index] = task.getDescription() == null ? null : pool.deduplicate(task.getDescription());
+	}
+
+	public void setDone(int index, boolean value) {
+		checkIndex(index);
+		done.set(index, value);
+	}
+
+	public void toggleDone(int index) {
+		checkIndex(index);
+		done.flip(index);
+	}
+
+	/** Gibt ungenutzte Kapazität frei (z.B. nach dem Import). */
+	public void trimToSize() {
+		if (size < ids.length) allocate(Math.max(size, 1));
+	}
+
+	// ------------------------- Zugriff ---------------------------
+
+	/** @return Anzahl der Tasks */
+	public int size() {
+		return size;
+	}
+
+	public long getId(int index) {
+		checkIndex(index);
+		return ids[index];
+	}
+
+	/** @return Epochentag des Fälligkeitsdatums oder NO_DUE_DATE */
+	public int getDueEpochDay(int index) {
+		checkIndex(index);
+		return dueDays[index];
+	}
+
+	public Category getCategory(int index) {
+		checkIndex(index);
+		return CATEGORIES[categories[index]];
+	}
+
+	public Priority getPriority(int index) {
+		checkIndex(index);
+		return PRIORITIES[priorities[index]];
+	}
+
+	public boolean isDone(int index) {
+		checkIndex(index);
+		return done.get(index);
+	}
+
+	/** @return Anzahl der erledigten Tasks */
+	public int countDone() {
+		return done.cardinality();
+	}
+
+	/**
+	 * @return neuer Task mit den Werten der Position
+	 */
+	public Task toTask(int index) {
+		checkIndex(index);
+		return Task.fromCsv(ids[index], createdAt(index), getCategory(index), titles[index], descriptions[index],
+				dueDate(index), reminderDate(index), getPriority(index), done.get(index));
+	}
+
+	/** @return alle Tasks als neue Liste (erzeugt size() Task-Objekte) */
+	public List<Task> toTasks() {
+		List<Task> tasks = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) tasks.add(toTask(i));
+		return tasks;
+	}
+
+	/** @return neuer Cursor; vor dem ersten Zugriff mit at() positionieren */
+	public View view() {
+		return new View();
+	}
+
+	// ------------------------- Speicherbedarf ---------------------------
+
+	/**
+	 * Schätzt den Heap-Bedarf der Spalten einschließlich der (verschiedenen) Strings.
+	 * @return Byte
+	 */
+	public long estimateHeapBytes() {
+		long bytes = align(OBJECT_HEADER + 12 * REFERENCE + Integer.BYTES);
+		bytes += arrayBytes(ids.length, Long.BYTES) * 3;						// ids, createdSeconds, reminderSeconds
+		bytes += arrayBytes(ids.length, Integer.BYTES) * 3;						// createdNanos, dueDays, reminderNanos
+		bytes += arrayBytes(ids.length, Byte.BYTES) * 2;						// categories, priorities
+		bytes += align(OBJECT_HEADER + REFERENCE + 8) + arrayBytes(done.size() / Long.SIZE, Long.BYTES);
+		bytes += arrayBytes(ids.length, REFERENCE) * 2;							// titles, descriptions
+
+		Map<String, Boolean> counted = new IdentityHashMap<>();
+		for (int i = 0; i < size; i++) {
+			bytes += stringBytes(titles[i], counted) + stringBytes(descriptions[i], counted);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Schätzt den Heap-Bedarf einer ArrayList&lt;Task&gt; (z.B. von TaskCSVHandler.loadTasksFromCSV)
+	 * zum Vergleich: Task-Objekte, LocalDate/LocalDateTime samt LocalTime und die (verschiedenen) Strings.
+	 * @return Byte
+	 */
+	public static long estimateHeapBytes(List<Task> tasks) {
+		long taskObject = align(OBJECT_HEADER + Long.BYTES + 7 * REFERENCE + 1);
+		long localDate = align(OBJECT_HEADER + Integer.BYTES + 2 * Short.BYTES);
+		long localTime = align(OBJECT_HEADER + 3 + Integer.BYTES);
+		long localDateTime = align(OBJECT_HEADER + 2 * REFERENCE) + localDate + localTime;
+
+		long bytes = align(OBJECT_HEADER + 2 * Integer.BYTES + REFERENCE) + arrayBytes(tasks.size(), REFERENCE);
+		Map<String, Boolean> counted = new IdentityHashMap<>();
+		for (Task task : tasks) {
+			bytes += taskObject + localDateTime;
+			if (task.getDueDate() != null) bytes += localDate;
+			if (task.getReminderDate() != null) bytes += localDateTime;
+			bytes += stringBytes(task.getTitle(), counted) + stringBytes(task.getDescription(), counted);
+		}
+		return bytes;
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	private LocalDateTime createdAt(int index) {
+		return LocalDateTime.ofEpochSecond(createdSeconds[index], createdNanos[index], ZoneOffset.UTC);
+	}
+
+	private LocalDate dueDate(int index) {
+		return dueDays[index] == NO_DUE_DATE ? null : LocalDate.ofEpochDay(dueDays[index]);
+	}
+
+	private LocalDateTime reminderDate(int index) {
+		if (reminderSeconds[index] == NO_REMINDER) return null;
+		return LocalDateTime.ofEpochSecond(reminderSeconds[index], reminderNanos[index], ZoneOffset.UTC);
+	}
+
+	private static int toDueDay(LocalDate dueDate) {
+		long epochDay = dueDate.toEpochDay();
+		if (epochDay <= NO_DUE_DATE || epochDay > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Fälligkeitsdatum außerhalb des unterstützten Bereichs: " + dueDate);
+		}
+		return (int) epochDay;
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + ", Größe " + size);
+	}
+
+	private void allocate(int capacity) {
+		ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+		createdSeconds = createdSeconds == null ? new long[capacity] : Arrays.copyOf(createdSeconds, capacity);
+		createdNanos = createdNanos == null ? new int[capacity] : Arrays.copyOf(createdNanos, capacity);
+		dueDays = dueDays == null ? new int[capacity] : Arrays.copyOf(dueDays, capacity);
+		reminderSeconds = reminderSeconds == null ? new long[capacity] : Arrays.copyOf(reminderSeconds, capacity);
+		reminderNanos = reminderNanos == null ? new int[capacity] : Arrays.copyOf(reminderNanos, capacity);
+		categories = categories == null ? new byte[capacity] : Arrays.copyOf(categories, capacity);
+		priorities = priorities == null ? new byte[capacity] : Arrays.copyOf(priorities, capacity);
+		titles = titles == null ? new String[capacity] : Arrays.copyOf(titles, capacity);
+		descriptions = descriptions == null ? new String[capacity] : Arrays.copyOf(descriptions, capacity);
+	}
+
+	private static long align(long bytes) {
+		return (bytes + 7) & ~7L;
+	}
+
+	private static long arrayBytes(long length, int elementBytes) {
+		return align(ARRAY_HEADER + length * elementBytes);
+	}
+
+	/** String-Objekt plus byte[] (Latin-1: 1 Byte, sonst 2 Byte je Zeichen), jede Instanz nur einmal */
+	private static long stringBytes(String text, Map<String, Boolean> counted) {
+		if (text == null || counted.put(text, Boolean.TRUE) != null) return 0;
+		int bytesPerChar = 1;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) > 0xFF) {
+				bytesPerChar = 2;
+				break;
+			}
+		}
+		return align(OBJECT_HEADER + Integer.BYTES + 2 + REFERENCE) + arrayBytes(text.length(), bytesPerChar);
+	}
+
+	// ------------------------- Flyweight ---------------------------
+
+	/**
+	 * Wiederverwendbarer Cursor mit den Gettern von Task; Datumswerte werden beim Zugriff erzeugt.
+	 * <pre>
+	 * TaskColumnStore.View view = store.view();
+	 * for (int i = 0; i &lt; store.size(); i++) {
+	 *     if (!view.at(i).isDone()) ...
+	 * }
+	 * </pre>
+	 */
+	public final class View {
+
+		private int index;
+
+		private View() {}
+
+		/** Setzt den Cursor auf die Position. */
+		public View at(int index) {
+			checkIndex(index);
+			this.index = index;
+			return this;
+		}
+
+		public int getIndex() {return index;}
+
+		public long getId() {return ids[index];}
+
+		public LocalDateTime getCreatedAt() {return createdAt(index);}
+
+		public Category getCategory() {return CATEGORIES[categories[index]];}
+
+		public String getTitle() {return titles[index];}
+
+		public String getDescription() {return descriptions[index];}
+
+		public LocalDate getDueDate() {return dueDate(index);}
+
+		public LocalDateTime getReminderDate() {return reminderDate(index);}
+
+		public Priority getPriority() {return PRIORITIES[priorities[index]];}
+
+		public boolean isDone() {return done.get(index);}
+
+		public void setDone(boolean value) {done.set(index, value);}
+
+		public void toggleDone() {done.flip(index);}
+
+		/** @return neuer Task mit den Werten der aktuellen Position */
+		public Task toTask() {return TaskColumnStore.this.toTask(index);}
+	}
+}
@@ -0,0 +1,152 @@
+package de.organizer.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Kombinierter Filter für TaskRepository. Alle gesetzten Bedingungen müssen zutreffen (UND),
+ * mehrere Werte innerhalb einer Bedingung sind Alternativen (ODER), z.B.
+ * <pre>
+ * new TaskFilter.Builder()
+ *         .categories(Category.WORK)
+ *         .priorities(Priority.HIGH, Priority.URGENT)
+ *         .done(false)
+ *         .dueBetween(heute, heute.plusDays(7))
+ *         .build();
+ * </pre>
+ * Nicht gesetzte Bedingungen schränken nicht ein. Datumsgrenzen sind inklusive,
+ * Tasks ohne Datum erfüllen keine Datumsbedingung.
+ */
+public final class TaskFilter {
+
+	/** Filter ohne Bedingungen -> alle Tasks */
+	public static final TaskFilter ALL = new Builder().build();
+
+	private final Set<Category> categories;
+	private final Set<Priority> priorities;
+	private final Boolean done;
+	private final LocalDate dueFrom;
+	private final LocalDate dueTo;
+	private final LocalDateTime reminderFrom;
+	private final LocalDateTime reminderTo;
+
+	private TaskFilter(Builder builder) {
+		this.categories = builder.categories == null ? null : Collections.unmodifiableSet(EnumSet.copyOf(builder.categories));
+		this.priorities = builder.priorities == null ? null : Collections.unmodifiableSet(EnumSet.copyOf(builder.priorities));
+		this.done = builder.done;
+		this.dueFrom = builder.dueFrom;
+		this.dueTo = builder.dueTo;
+		this.reminderFrom = builder.reminderFrom;
+		this.reminderTo = builder.reminderTo;
+	}
+
+	// ------------------------- Getter ---------------------------
+	// null = Bedingung nicht gesetzt
+
+	public Set<Category> getCategories() {return categories;}
+
+	public Set<Priority> getPriorities() {return priorities;}
+
+	public Boolean getDone() {return done;}
+
+	public LocalDate getDueFrom() {return dueFrom;}
+
+	public LocalDate getDueTo() {return dueTo;}
+
+	public LocalDateTime getReminderFrom() {return reminderFrom;}
+
+	public LocalDateTime getReminderTo() {return reminderTo;}
+
+	/** @return true, wenn eine Bedingung auf das Fälligkeitsdatum gesetzt ist */
+	public boolean hasDueRange() {return dueFrom != null || dueTo != null;}
+
+	/** @return true, wenn eine Bedingung auf die Erinnerung gesetzt ist */
+	public boolean hasReminderRange() {return reminderFrom != null || reminderTo != null;}
+
+	/**
+	 * Prüft einen einzelnen Task ohne Index (z.B. für kleine Listen).
+	 * @return true, wenn alle gesetzten Bedingungen zutreffen
+	 */
+	public boolean matches(Task task) {
+		if (categories != null && !categories.contains(task.getCategory())) return false;
+		if (priorities != null && !priorities.contains(task.getPriority())) return false;
+		if (done != null && done != task.isDone()) return false;
+		if (hasDueRange() && !inRange(task.getDueDate(), dueFrom, dueTo)) return false;
+		if (hasReminderRange() && !inRange(task.getReminderDate(), reminderFrom, reminderTo)) return false;
+		return true;
+	}
+
+	private static <T extends Comparable<? super T>> boolean inRange(T value, T from, T to) {
+		return value != null && value.compareTo(from) >= 0 && value.compareTo(to) <= 0;
+	}
+
+	// ------------------------- Builder ---------------------------
+
+	public static class Builder {
+
+		private EnumSet<Category> categories;
+		private EnumSet<Priority> priorities;
+		private Boolean done;
+		private LocalDate dueFrom;
+		private LocalDate dueTo;
+		private LocalDateTime reminderFrom;
+		private LocalDateTime reminderTo;
+
+		/** Nur Tasks mit einer dieser Kategorien */
+		public Builder categories(Category first, Category... rest) {
+			this.categories = EnumSet.of(first, rest);
+			return this;
+		}
+
+		/** Nur Tasks mit einer dieser Prioritäten */
+		public Builder priorities(Priority first, Priority... rest) {
+			this.priorities = EnumSet.of(first, rest);
+			return this;
+		}
+
+		/** Nur erledigte (true) bzw. offene (false) Tasks */
+		public Builder done(boolean done) {
+			this.done = done;
+			return this;
+		}
+
+		/**
+		 * Nur Tasks mit Fälligkeitsdatum im Bereich (inklusive).
+		 * @param from untere Grenze oder null für offen
+		 * @param to obere Grenze oder null für offen
+		 */
+		public Builder dueBetween(LocalDate from, LocalDate to) {
+			this.dueFrom = from != null ? from : LocalDate.MIN;
+			this.dueTo = to != null ? to : LocalDate.MAX;
+			return this;
+		}
+
+		/**
+		 * Nur Tasks mit Erinnerung im Bereich (inklusive).
+		 * @param from untere Grenze oder null für offen
+		 * @param to obere Grenze oder null für offen
+		 */
+		public Builder reminderBetween(LocalDateTime from, LocalDateTime to) {
+			this.reminderFrom = from != null ? from : LocalDateTime.MIN;
+			this.reminderTo = to != null ? to : LocalDateTime.MAX;
+			return this;
+		}
+
+		public TaskFilter build() {
+			if (dueFrom != null && dueFrom.isAfter(dueTo)) {
+				throw new IllegalArgumentException("dueFrom liegt nach dueTo: " + dueFrom + " > " + dueTo);
+			}
+			if (reminderFrom != null && reminderFrom.isAfter(reminderTo)) {
+				throw new IllegalArgumentException("reminderFrom liegt nach reminderTo: " + reminderFrom + " > " + reminderTo);
+			}
+			return new TaskFilter(this);
+		}
+	}
+}
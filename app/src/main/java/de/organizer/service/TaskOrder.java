@@ -0,0 +1,58 @@
+package de.organizer.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import de.organizer.model.Task;
+
+/**
+ * Die Sortierungen aus ArrangeTaskList als Wert, z.B. für SortedTaskView.
+ * comparator() liefert genau die Reihenfolge der zugehörigen sortBy*-Methode (null-Werte am Ende).
+ */
+public enum TaskOrder {
+
+	PRIORITY(ArrangeTaskList.PRIORITY_ORDER, ArrangeTaskList::sortByPriority, ArrangeTaskList::priorityKey),
+	CATEGORY(ArrangeTaskList.CATEGORY_ORDER, ArrangeTaskList::sortByCategory, ArrangeTaskList::categoryKey),
+	DUE_DATE(ArrangeTaskList.DUE_DATE_ORDER, ArrangeTaskList::sortByDueDate, TaskSorter::dueDateKey),
+	TITLE(ArrangeTaskList.TITLE_ORDER, ArrangeTaskList::sortByTitle, null),
+	PRIORITY_DUE_DATE(ArrangeTaskList.PRIORITY_DUE_DATE_ORDER, ArrangeTaskList::sortByPriorityDueDate,
+			ArrangeTaskList::priorityDueDateKey),
+	CATEGORY_DUE_DATE(ArrangeTaskList.CATEGORY_DUE_DATE_ORDER, ArrangeTaskList::sortByCategoryDueDate,
+			ArrangeTaskList::categoryDueDateKey),
+	NEWEST(ArrangeTaskList.NEWEST_ORDER, ArrangeTaskList::sortByNewest, t -> TaskSorter.createdAtKey(t, true)),
+	OLDEST(ArrangeTaskList.OLDEST_ORDER, ArrangeTaskList::sortByOldest, t -> TaskSorter.createdAtKey(t, false));
+
+	private final Comparator<Task> comparator;
+	private final Consumer<List<Task>> sorter;
+	private final ToLongFunction<Task> key;
+
+	TaskOrder(Comparator<Task> comparator, Consumer<List<Task>> sorter, ToLongFunction<Task> key) {
+		this.comparator = comparator;
+		this.sorter = sorter;
+		this.key = key;
+	}
+
+	/** @return Comparator mit derselben Reihenfolge wie sort() */
+	public Comparator<Task> comparator() {
+		return comparator;
+	}
+
+	/**
+	 * Sortiert die Liste stabil über die zugehörige ArrangeTaskList-Methode.
+	 * @param taskList Liste der zu sortierenden Tasks
+	 */
+	public void sort(List<Task> taskList) {
+		sorter.accept(taskList);
+	}
+
+	/**
+	 * Primitiver Sortierschlüssel (vorzeichenlos verglichen, siehe TaskSorter) oder null,
+	 * wenn die Reihenfolge nur über den Comparator geht (Titel).
+	 * Der Schlüssel für den Erstellzeitpunkt wirft außerhalb von ca. 1677-2262 eine ArithmeticException.
+	 */
+	ToLongFunction<Task> key() {
+		return key;
+	}
+}
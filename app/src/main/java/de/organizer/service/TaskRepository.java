@@ -0,0 +1,278 @@
+package de.organizer.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+
+/**
+ * Hält Tasks im Speicher mit Sekundärindizes, damit Filter nicht jeden Task prüfen müssen:
+ * <ul>
+ * <li>je Category, Priority und für done ein BitSet über die Slot-Nummern</li>
+ * <li>NavigableMaps auf dueDate und reminderDate für Bereichsabfragen</li>
+ * </ul>
+ * Kombinierte Filter (TaskFilter) werden durch Verknüpfen der BitSets beantwortet.
+ *
+ * Jede Änderung muss über das Repository laufen (add, update, remove, setDone, toggleDone),
+ * sonst passen die Indizes nicht mehr - insbesondere nicht task.setDone() direkt aufrufen!
+ * Ergebnisse kommen in Einfügereihenfolge. Nicht thread-sicher.
+ */
+public class TaskRepository {
+
+	// Freie Slots werden erst beim Verdichten zurückgewonnen -> Einfügereihenfolge bleibt erhalten
+	private static final int MIN_FREE_SLOTS_TO_COMPACT = 1024;
+
+	private final List<Task> slots = new ArrayList<>();
+	private final Map<Long, Integer> slotById = new HashMap<>();
+	private final BitSet live = new BitSet();
+
+	private final EnumMap<Category, BitSet> byCategory = new EnumMap<>(Category.class);
+	private final EnumMap<Priority, BitSet> byPriority = new EnumMap<>(Priority.class);
+	private final BitSet doneSlots = new BitSet();
+	private final NavigableMap<LocalDate, SlotSet> byDueDate = new TreeMap<>();
+	private final NavigableMap<LocalDateTime, SlotSet> byReminderDate = new TreeMap<>();
+
+	public TaskRepository() {
+		for (Category category : Category.values()) byCategory.put(category, new BitSet());
+		for (Priority priority : Priority.values()) byPriority.put(priority, new BitSet());
+	}
+
+	/**
+	 * @param tasks Anfangsbestand
+	 * @throws IllegalArgumentException bei doppelten ids
+	 */
+	public TaskRepository(Collection<Task> tasks) {
+		this();
+		for (Task task : tasks) add(task);
+	}
+
+	// ------------------------- Änderungen ---------------------------
+
+	/**
+	 * Fügt einen neuen Task hinzu.
+	 * @throws IllegalArgumentException wenn die id bereits vergeben ist
+	 */
+	public void add(Task task) {
+		if (slotById.containsKey(task.getId())) {
+			throw new IllegalArgumentException("Task mit id " + task.getId() + " existiert bereits");
+		}
+		int slot = slots.size();
+		slots.add(task);
+		slotById.put(task.getId(), slot);
+		index(slot, task);
+	}
+
+	/**
+	 * Ersetzt den Task mit derselben id (z.B. nach dem Bearbeiten) und aktualisiert die Indizes.
+	 * @throws IllegalArgumentException wenn kein Task mit der id existiert
+	 */
+	public void update(Task task) {
+		int slot = slotOf(task.getId());
+		unindex(slot, slots.get(slot));
+		slots.set(slot, task);
+		index(slot, task);
+	}
+
+	/**
+	 * Entfernt den Task mit der id.
+	 * @return entfernter Task oder null, wenn es keinen gab
+	 */
+	public Task remove(long id) {
+		Integer slot = slotById.remove(id);
+		if (slot == null) return null;
+
+		Task task = slots.get(slot);
+		unindex(slot, task);
+		slots.set(slot, null);
+		compactIfSparse();
+		return task;
+	}
+
+	/**
+	 * Setzt den Erledigt-Status über das Repository (statt task.setDone()).
+	 * @throws IllegalArgumentException wenn kein Task mit der id existiert
+	 */
+	public void setDone(long id, boolean done) {
+		int slot = slotOf(id);
+		slots.get(slot).setDone(done);
+		doneSlots.set(slot, done);
+	}
+
+	/**
+	 * Schaltet den Erledigt-Status über das Repository um (statt task.toggleDone()).
+	 * @throws IllegalArgumentException wenn kein Task mit der id existiert
+	 */
+	public void toggleDone(long id) {
+		int slot = slotOf(id);
+		Task task = slots.get(slot);
+		task.toggleDone();
+		doneSlots.set(slot, task.isDone());
+	}
+
+	// ------------------------- Abfragen ---------------------------
+
+	/** @return Task mit der id oder null */
+	public Task get(long id) {
+		Integer slot = slotById.get(id);
+		return slot == null ? null : slots.get(slot);
+	}
+
+	/** @return Anzahl der Tasks */
+	public int size() {
+		return slotById.size();
+	}
+
+	/** @return alle Tasks in Einfügereihenfolge als neue Liste */
+	public List<Task> getAll() {
+		return find(TaskFilter.ALL);
+	}
+
+	/**
+	 * Liefert alle Tasks, die den Filter erfüllen, in Einfügereihenfolge.
+	 * @param filter kombinierte Bedingungen
+	 * @return neue Liste der Treffer
+	 */
+	public List<Task> find(TaskFilter filter) {
+		BitSet matches = evaluate(filter);
+		List<Task> result = new ArrayList<>(matches.cardinality());
+		for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+			result.add(slots.get(slot));
+		}
+		return result;
+	}
+
+	/**
+	 * Zählt die Treffer, ohne eine Ergebnisliste aufzubauen.
+	 * @param filter kombinierte Bedingungen
+	 * @return Anzahl der Tasks, die den Filter erfüllen
+	 */
+	public int count(TaskFilter filter) {
+		return evaluate(filter).cardinality();
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/** Verknüpft die Indizes der gesetzten Bedingungen zu den passenden Slots. */
+	private BitSet evaluate(TaskFilter filter) {
+
+		BitSet result = (BitSet) live.clone();
+		if (filter.getCategories() != null) result.and(union(byCategory, filter.getCategories()));
+		if (filter.getPriorities() != null) result.and(union(byPriority, filter.getPriorities()));
+		if (filter.getDone() != null) {
+			if (filter.getDone()) result.and(doneSlots);
+			else result.andNot(doneSlots);
+		}
+		if (filter.hasDueRange()) {
+			result.and(collect(byDueDate.subMap(filter.getDueFrom(), true, filter.getDueTo(), true)));
+		}
+		if (filter.hasReminderRange()) {
+			result.and(collect(byReminderDate.subMap(filter.getReminderFrom(), true, filter.getReminderTo(), true)));
+		}
+		return result;
+	}
+
+	private static <E extends Enum<E>> BitSet union(EnumMap<E, BitSet> index, Set<E> values) {
+		BitSet union = new BitSet();
+		for (E value : values) union.or(index.get(value));
+		return union;
+	}
+
+	private static BitSet collect(NavigableMap<?, SlotSet> range) {
+		BitSet bits = new BitSet();
+		for (SlotSet slotSet : range.values()) slotSet.setBits(bits);
+		return bits;
+	}
+
+	private int slotOf(long id) {
+		Integer slot = slotById.get(id);
+		if (slot == null) throw new IllegalArgumentException("Kein Task mit id " + id);
+		return slot;
+	}
+
+	private void index(int slot, Task task) {
+		live.set(slot);
+		byCategory.get(task.getCategory()).set(slot);
+		byPriority.get(task.getPriority()).set(slot);
+		doneSlots.set(slot, task.isDone());
+		if (task.getDueDate() != null) byDueDate.computeIfAbsent(task.getDueDate(), d -> new SlotSet()).add(slot);
+		if (task.getReminderDate() != null) byReminderDate.computeIfAbsent(task.getReminderDate(), d -> new SlotSet()).add(slot);
+	}
+
+	private void unindex(int slot, Task task) {
+		live.clear(slot);
+		byCategory.get(task.getCategory()).clear(slot);
+		byPriority.get(task.getPriority()).clear(slot);
+		doneSlots.clear(slot);
+		if (task.getDueDate() != null) removeSlot(byDueDate, task.getDueDate(), slot);
+		if (task.getReminderDate() != null) removeSlot(byReminderDate, task.getReminderDate(), slot);
+	}
+
+	private static <K> void removeSlot(NavigableMap<K, SlotSet> index, K key, int slot) {
+		SlotSet slotSet = index.get(key);
+		if (slotSet != null && slotSet.remove(slot) && slotSet.isEmpty()) index.remove(key);
+	}
+
+	/** Baut die Slots neu auf, wenn mehr als die Hälfte frei ist (amortisiert O(1) je remove). */
+	private void compactIfSparse() {
+		int free = slots.size() - slotById.size();
+		if (free < MIN_FREE_SLOTS_TO_COMPACT || free < slotById.size()) return;
+
+		List<Task> remaining = new ArrayList<>(slotById.size());
+		for (Task task : slots) {
+			if (task != null) remaining.add(task);
+		}
+
+		slots.clear();
+		slotById.clear();
+		live.clear();
+		byCategory.values().forEach(BitSet::clear);
+		byPriority.values().forEach(BitSet::clear);
+		doneSlots.clear();
+		byDueDate.clear();
+		byReminderDate.clear();
+		for (Task task : remaining) add(task);
+	}
+
+	/** Kleine Menge von Slot-Nummern je Datum (ohne Boxing). */
+	private static final class SlotSet {
+
+		private int[] slots = new int[4];
+		private int size;
+
+		void add(int slot) {
+			if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+			slots[size++] = slot;
+		}
+
+		boolean remove(int slot) {
+			for (int i = 0; i < size; i++) {
+				if (slots[i] == slot) {
+					slots[i] = slots[--size];
+					return true;
+				}
+			}
+			return false;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		void setBits(BitSet bits) {
+			for (int i = 0; i < size; i++) bits.set(slots[i]);
+		}
+	}
+}
@@ -0,0 +1,392 @@
+package de.organizer.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import de.organizer.model.Task;
+
+/**
+ * Stabile Sortierverfahren für ArrangeTaskList: Counting-Sort für Enum-Schlüssel
+ * mit wenigen Werten und eine Sortierung nach einem primitiven long-Schlüssel je Task
+ * (z.B. Rang der Priorität in den oberen Bits, Epochentag in den unteren).
+ * Es werden keine Getter pro Vergleich aufgerufen und keine Werte geboxt.
+ * Das Ergebnis entspricht exakt List.sort() mit dem jeweiligen Comparator.
+ */
+final class TaskSorter {
+
+	/** Unterhalb dieser Größe ist List.sort() mit Comparator schneller */
+	static final int SMALL_LIST = 32;
+
+	/** Schlüssel für null-Werte -> größter vorzeichenloser Wert, landet also am Ende */
+	static final long NULL_LAST = -1L;
+
+	/** Bits für den Datumsschlüssel, reicht für LocalDate.MIN bis LocalDate.MAX */
+	static final int DATE_BITS = 40;
+
+	/** Datumsschlüssel für null -> hinter jedem gültigen Datum */
+	static final long DATE_NULL = (1L << DATE_BITS) - 1;
+
+	private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX = 1 << RADIX_BITS;
+
+	private TaskSorter() {
+		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
+	}
+
+	/**
+	 * Rang je Ordinal eines Enums nach dem übergebenen Schlüssel; gleiche Schlüssel teilen sich den Rang.
+	 * @return Array Ordinal -> Rang (0 = kleinster Schlüssel)
+	 */
+	static <E extends Enum<E>, K extends Comparable<? super K>> int[] rankOf(E[] values, Function<E, K> key) {
+
+		E[] sorted = values.clone();
+		Arrays.sort(sorted, (a, b) -> key.apply(a).compareTo(key.apply(b)));
+
+		int[] rank = new int[values.length];
+		for (int i = 1; i < sorted.length; i++) {
+			boolean same = key.apply(sorted[i]).compareTo(key.apply(sorted[i - 1])) == 0;
+			rank[sorted[i].ordinal()] = rank[sorted[i - 1].ordinal()] + (same ? 0 : 1);
+		}
+		return rank;
+	}
+
+	/**
+	 * Stabiler Counting-Sort in bucketCount Fächer.
+	 * @param bucketOf Fach eines Tasks (0 bis bucketCount - 1)
+	 */
+	static void countingSort(List<Task> taskList, ToIntFunction<Task> bucketOf, int bucketCount) {
+
+		Task[] tasks = taskList.toArray(new Task[0]);
+		int[] bucket = new int[tasks.length];
+		int[] next = new int[bucketCount + 1];
+
+		for (int i = 0; i < tasks.length; i++) {
+			bucket[i] = bucketOf.applyAsInt(tasks[i]);
+			next[bucket[i] + 1]++;
+		}
+		for (int b = 1; b <= bucketCount; b++) next[b] += next[b - 1];
+
+		Task[] sorted = new Task[tasks.length];
+		for (int i = 0; i < tasks.length; i++) {
+			sorted[next[bucket[i]]++] = tasks[i];
+		}
+		writeBack(taskList, sorted);
+	}
+
+	/**
+	 * Sortiert stabil nach einem primitiven Schlüssel je Task (vorzeichenlos verglichen).
+	 * Der Schlüssel wird genau einmal pro Task berechnet, sortiert wird ein Index-Array.
+	 * @param keyOf Schlüssel eines Tasks, z.B. dueDateKey() oder ein gepackter Schlüssel
+	 */
+	static void sortByKey(List<Task> taskList, ToLongFunction<Task> keyOf) {
+
+		Task[] tasks = taskList.toArray(new Task[0]);
+		long[] keys = new long[tasks.length];
+		for (int i = 0; i < tasks.length; i++) keys[i] = keyOf.applyAsLong(tasks[i]);
+
+		int[] order = sortedOrder(keys);
+		Task[] sorted = new Task[tasks.length];
+		for (int i = 0; i < order.length; i++) sorted[i] = tasks[order[i]];
+		writeBack(taskList, sorted);
+	}
+
+	/**
+	 * Wie sortByKey(), aber parallel auf dem übergebenen Pool. Die Schlüssel werden parallel berechnet;
+	 * passen (Schlüssel - Minimum) und Position gemeinsam in ein long, sortiert Arrays.parallelSort()
+	 * diese gepackten Werte, sonst (Schlüssel, Position, Task)-Objekte. Primitive longs haben keine
+	 * Identität - erst die Position in den unteren Bits macht gleiche Schlüssel unterscheidbar und
+	 * erhält ihre ursprüngliche Reihenfolge. Der Objekt-Pfad vergleicht zur Sicherheit genauso,
+	 * damit beide Pfade exakt dieselbe Reihenfolge liefern wie die stabile sequentielle Sortierung.
+	 * @param pool Pool, auf dem die parallelen Schritte laufen (sonst z.B. ForkJoinPool.commonPool())
+	 */
+	static void parallelSortByKey(List<Task> taskList, ToLongFunction<Task> keyOf, ForkJoinPool pool) {
+
+		Task[] tasks = taskList.toArray(new Task[0]);
+		writeBack(taskList, pool.invoke(ForkJoinTask.adapt(() -> parallelSorted(tasks, keyOf))));
+	}
+
+	private static Task[] parallelSorted(Task[] tasks, ToLongFunction<Task> keyOf) {
+
+		int n = tasks.length;
+		long[] keys = new long[n];
+		Arrays.parallelSetAll(keys, i -> keyOf.applyAsLong(tasks[i]));
+
+		long min = NULL_LAST;
+		long max = 0;
+		for (long key : keys) {
+			if (Long.compareUnsigned(key, min) < 0) min = key;
+			if (Long.compareUnsigned(key, max) > 0) max = key;
+		}
+		int keyBits = Long.SIZE - Long.numberOfLeadingZeros(max - min);
+		int positionBits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(n - 1, 1));
+
+		Task[] sorted = new Task[n];
+		if (keyBits + positionBits < Long.SIZE) {
+			long base = min;
+			long positionMask = (1L << positionBits) - 1;
+			long[] packed = new long[n];
+			Arrays.parallelSetAll(packed, i -> ((keys[i] - base) << positionBits) | i);
+			Arrays.parallelSort(packed);
+			Arrays.parallelSetAll(sorted, i -> tasks[(int) (packed[i] & positionMask)]);
+		} else {
+			KeyedTask[] keyed = new KeyedTask[n];
+			Arrays.parallelSetAll(keyed, i -> new KeyedTask(keys[i], i, tasks[i]));
+			Arrays.parallelSort(keyed, KeyedTask.ORDER);
+			Arrays.parallelSetAll(sorted, i -> keyed[i].task);
+		}
+		return sorted;
+	}
+
+	/**
+	 * Stabiler LSD-Radix-Sort über die Schlüssel (vorzeichenlos), das Array selbst bleibt unverändert.
+	 * Byte-Stellen, in denen alle Schlüssel übereinstimmen, werden übersprungen.
+	 * @return Indizes in sortierter Reihenfolge
+	 */
+	static int[] sortedOrder(long[] keys) {
+
+		int n = keys.length;
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) order[i] = i;
+		if (n < 2) return order;
+
+		long[] sortedKeys = keys.clone();
+		long[] keyBuffer = new long[n];
+		int[] orderBuffer = new int[n];
+		int[] next = new int[RADIX + 1];
+
+		for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+			Arrays.fill(next, 0);
+			for (int i = 0; i < n; i++) next[digit(sortedKeys[i], shift) + 1]++;
+			if (next[digit(sortedKeys[0], shift) + 1] == n) continue;	// alle gleich -> nichts zu tun
+
+			for (int d = 1; d <= RADIX; d++) next[d] += next[d - 1];
+			for (int i = 0; i < n; i++) {
+				int target = next[digit(sortedKeys[i], shift)]++;
+				keyBuffer[target] = sortedKeys[i];
+				orderBuffer[target] = order[i];
+			}
+
+			long[] swapKeys = sortedKeys; sortedKeys = keyBuffer; keyBuffer = swapKeys;
+			int[] swapOrder = order; order = orderBuffer; orderBuffer = swapOrder;
+		}
+		return order;
+	}
+
+	/**
+	 * Die k kleinsten Tasks nach dem Comparator über einen begrenzten Max-Heap (O(n log k)).
+	 * Bei Gleichstand entscheidet die Position in der Liste -> Ergebnis entspricht den ersten k
+	 * Einträgen einer stabilen Sortierung. Die übergebene Liste wird nicht verändert.
+	 * @return neue, sortierte Liste mit höchstens k Tasks
+	 */
+	static List<Task> smallest(List<Task> taskList, Comparator<Task> comparator, int k) {
+
+		Task[] tasks = taskList.toArray(new Task[0]);
+		if (k >= tasks.length) {
+			List<Task> all = new ArrayList<>(Arrays.asList(tasks));
+			all.sort(comparator);
+			return all;
+		}
+		return select(tasks, (a, b) -> comparator.compare(tasks[a], tasks[b]), k);
+	}
+
+	/**
+	 * Wie smallest(), aber nach einem primitiven Schlüssel je Task (siehe sortByKey()) ->
+	 * der Schlüssel wird einmal pro Task berechnet, verglichen werden nur noch long-Werte.
+	 * @return neue, sortierte Liste mit höchstens k Tasks
+	 */
+	static List<Task> smallestByKey(List<Task> taskList, ToLongFunction<Task> keyOf, int k) {
+
+		Task[] tasks = taskList.toArray(new Task[0]);
+		long[] keys = new long[tasks.length];
+		for (int i = 0; i < tasks.length; i++) keys[i] = keyOf.applyAsLong(tasks[i]);
+
+		if (k >= tasks.length) {
+			int[] order = sortedOrder(keys);
+			List<Task> all = new ArrayList<>(tasks.length);
+			for (int position : order) all.add(tasks[position]);
+			return all;
+		}
+		return select(tasks, (a, b) -> Long.compareUnsigned(keys[a], keys[b]), k);
+	}
+
+	private static List<Task> select(Task[] tasks, IntBinaryOperator order, int k) {
+
+		BoundedHeap heap = new BoundedHeap(order, k);
+		for (int i = 0; i < tasks.length; i++) heap.offer(i);
+
+		Task[] result = new Task[heap.size];
+		for (int i = result.length - 1; i >= 0; i--) result[i] = tasks[heap.poll()];
+		return new ArrayList<>(Arrays.asList(result));
+	}
+
+	/**
+	 * Schlüssel für das Fälligkeitsdatum in den unteren DATE_BITS: Epochentag ab LocalDate.MIN,
+	 * null ans Ende. Darüber ist Platz für einen Rang (z.B. Priorität), siehe withRank().
+	 */
+	static long dueDateKey(Task task) {
+		LocalDate dueDate = task.getDueDate();
+		return dueDate == null ? DATE_NULL : dueDate.toEpochDay() - MIN_EPOCH_DAY;
+	}
+
+	/**
+	 * Packt einen Rang vor einen Datumsschlüssel -> sortiert zuerst nach Rang, dann nach Datum.
+	 */
+	static long withRank(int rank, long dateKey) {
+		return ((long) rank << DATE_BITS) | dateKey;
+	}
+
+	/**
+	 * Schlüssel für den Erstellzeitpunkt in Nanosekunden, null ans Ende.
+	 * @param descending true = neuste zuerst
+	 * @throws ArithmeticException außerhalb von ca. 1677-2262 (nicht als long darstellbar)
+	 */
+	static long createdAtKey(Task task, boolean descending) {
+		LocalDateTime createdAt = task.getCreatedAt();
+		if (createdAt == null) return NULL_LAST;
+
+		long nanos = Math.addExact(Math.multiplyExact(createdAt.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND),
+				createdAt.getNano());
+		if (nanos == Long.MIN_VALUE || nanos == Long.MAX_VALUE) throw new ArithmeticException("long overflow"); // kollidiert mit NULL_LAST
+		long key = nanos ^ Long.MIN_VALUE;
+		return descending ? ~key : key;
+	}
+
+	/**
+	 * Rang je Titel (case-insensitive) für die übergebenen Tasks; nur die verschiedenen Titel
+	 * werden verglichen, gleiche Titel (auch "abc"/"ABC") teilen sich den Rang.
+	 */
+	static ToLongFunction<Task> titleRank(List<Task> taskList) {
+
+		Map<String, Integer> rank = new HashMap<>();
+		for (Task task : taskList) rank.put(task.getTitle(), 0);
+
+		String[] titles = rank.keySet().toArray(new String[0]);
+		Arrays.sort(titles, String.CASE_INSENSITIVE_ORDER);
+		int current = 0;
+		for (int i = 0; i < titles.length; i++) {
+			if (i > 0 && String.CASE_INSENSITIVE_ORDER.compare(titles[i - 1], titles[i]) != 0) current++;
+			rank.put(titles[i], current);
+		}
+		return task -> rank.get(task.getTitle());
+	}
+
+	// ------------------------- Hilfsmethoden ---------------------------
+
+	/**
+	 * Max-Heap über Positionen im Task-Array mit fester Kapazität: das größte Element liegt oben
+	 * und wird verdrängt, sobald ein kleineres kommt. Keine Boxing-Kosten für die Positionen.
+	 */
+	private static final class BoundedHeap {
+
+		private final IntBinaryOperator order;
+		private final int[] heap;
+		private int size;
+
+		/**
+		 * @param order vergleicht zwei Positionen wie ein Comparator
+		 * @param capacity Anzahl der zu behaltenden Elemente
+		 */
+		BoundedHeap(IntBinaryOperator order, int capacity) {
+			this.order = order;
+			this.heap = new int[capacity];
+		}
+
+		void offer(int position) {
+			if (size < heap.length) {
+				heap[size] = position;
+				siftUp(size++);
+			} else if (size > 0 && less(position, heap[0])) {
+				heap[0] = position;
+				siftDown(0);
+			}
+		}
+
+		/** Entfernt das größte Element. */
+		int poll() {
+			int top = heap[0];
+			heap[0] = heap[--size];
+			siftDown(0);
+			return top;
+		}
+
+		/** Vergleich nach Comparator, bei Gleichstand nach Position -> eindeutige Reihenfolge */
+		private boolean less(int a, int b) {
+			int result = order.applyAsInt(a, b);
+			return result < 0 || (result == 0 && a < b);
+		}
+
+		private void siftUp(int index) {
+			int position = heap[index];
+			while (index > 0) {
+				int parent = (index - 1) >>> 1;
+				if (!less(heap[parent], position)) break;
+				heap[index] = heap[parent];
+				index = parent;
+			}
+			heap[index] = position;
+		}
+
+		private void siftDown(int index) {
+			if (size == 0) return;
+			int position = heap[index];
+			int half = size >>> 1;
+			while (index < half) {
+				int child = 2 * index + 1;
+				if (child + 1 < size && less(heap[child], heap[child + 1])) child++;
+				if (!less(position, heap[child])) break;
+				heap[index] = heap[child];
+				index = child;
+			}
+			heap[index] = position;
+		}
+	}
+
+	/** Task mit vorab berechnetem Schlüssel und Ausgangsposition -> Vergleich ohne Getter-Aufrufe */
+	private static final class KeyedTask {
+
+		static final Comparator<KeyedTask> ORDER = (a, b) -> {
+			int result = Long.compareUnsigned(a.key, b.key);
+			return result != 0 ? result : Integer.compare(a.position, b.position);
+		};
+
+		final long key;
+		final int position;
+		final Task task;
+
+		KeyedTask(long key, int position, Task task) {
+			this.key = key;
+			this.position = position;
+			this.task = task;
+		}
+	}
+
+	private static int digit(long key, int shift) {
+		return (int) (key >>> shift) & (RADIX - 1);
+	}
+
+	/** Schreibt das Ergebnis zurück wie List.sort() -> funktioniert für jede veränderbare Liste. */
+	private static void writeBack(List<Task> taskList, Task[] sorted) {
+		ListIterator<Task> iterator = taskList.listIterator();
+		for (Task task : sorted) {
+			iterator.next();
+			iterator.set(task);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package de.organizer.util;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Ersetzt Dateien absturzsicher: Der neue Inhalt wird in eine temporäre Datei im selben Verzeichnis
+ * geschrieben, auf Wunsch mit fsync gesichert und dann atomar über das Ziel verschoben. Das Ziel
+ * enthält so immer entweder den alten oder den vollständigen neuen Stand.
+ *
+ * Gemeinsamer Baustein für AtomicTaskCSVSaver, MappedTaskStore, TaskJournal und IDGenerator.
+ */
+public final class AtomicFiles {
+
+	private static final Logger LOGGER = Logger.getLogger(AtomicFiles.class.getName());
+
+	/** Schreibt den Inhalt in den (leeren) Kanal der temporären Datei. */
+	@FunctionalInterface
+	public interface ChannelWriter {
+		void write(FileChannel channel) throws IOException;
+	}
+
+	// Konstruktor -> Klasse uninstanziierbar
+	private AtomicFiles() {
+		throw new AssertionError("Utility-Klasse darf nicht instanziiert werden");
+	}
+
+	/**
+	 * Schreibt target atomar neu. Schlägt das Schreiben fehl, bleibt target unverändert und die
+	 * temporäre Datei wird gelöscht.
+	 * @param target Zieldatei
+	 * @param sync true = Daten vor dem Umbenennen und danach das Verzeichnis mit fsync sichern
+	 * @param content schreibt den neuen Inhalt
+	 * @throws IOException wenn beim Schreiben oder Umbenennen ein Fehler auftritt
+	 */
+	public static void write(Path target, boolean sync, ChannelWriter content) throws IOException {
+
+		Path absolute = target.toAbsolutePath();
+		Path temp = createTempFile(absolute);
+		try {
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				content.write(channel);
+				if (sync) channel.force(true);
+			}
+			move(temp, absolute);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		if (sync) syncDirectory(absolute.getParent());
+	}
+
+	/** @return neue, leere temporäre Datei neben target (".name...tmp") */
+	public static Path createTempFile(Path target) throws IOException {
+		Path absolute = target.toAbsolutePath();
+		return Files.createTempFile(absolute.getParent(), "." + absolute.getFileName(), ".tmp");
+	}
+
+	/**
+	 * Verschiebt temp atomar über target (Fallback: nicht-atomar). Die POSIX-Rechte eines
+	 * bestehenden Ziels werden übernommen, da createTempFile() die Datei mit 0600 anlegt.
+	 */
+	public static void move(Path temp, Path target) throws IOException {
+		copyPermissions(target, temp);
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			LOGGER.warning("Atomares Umbenennen nicht unterstützt, verschiebe nicht-atomar: " + target);
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Macht eine Umbenennung im Verzeichnis dauerhaft. Nicht jedes Betriebssystem erlaubt fsync
+	 * auf Verzeichnisse (z.B. Windows) -> nur protokollieren.
+	 */
+	public static void syncDirectory(Path directory) {
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			LOGGER.log(Level.FINE, "Verzeichnis konnte nicht synchronisiert werden: " + directory, e);
+		}
+	}
+
+	private static void copyPermissions(Path from, Path to) throws IOException {
+		PosixFileAttributeView view = Files.getFileAttributeView(from, PosixFileAttributeView.class);
+		if (view == null) return;
+		try {
+			Files.setPosixFilePermissions(to, view.readAttributes().permissions());
+		} catch (NoSuchFileException e) {
+			// noch keine Zieldatei -> Rechte der temporären Datei bleiben
+		}
+	}
+}
@@ -1,13 +1,64 @@
 package de.organizer.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
- * Utility-Klasse zur Generierung fortlaufender eindeutiger IDs.
+ * Utility-Klasse zur Generierung eindeutiger IDs.
  * Die Klasse ist nicht instanziierbar und thread-sicher.
+ *
+ * Jeder Thread reserviert sich per AtomicLong einen Block von BLOCK_SIZE IDs und vergibt daraus
+ * ohne Sperre und ohne gemeinsamen Schreibzugriff. Innerhalb eines Threads sind die IDs fortlaufend,
+ * über Threads hinweg nur eindeutig (nicht in Erzeugungsreihenfolge).
+ *
+ * Gegen Kollisionen nach einem Neustart:
+ * <ul>
+ * <li>observe() - aufgerufen für jede geladene ID (Task.fromCsv, Memo.fromCsv) - setzt den Zähler
+ * hinter die höchste bekannte ID</li>
+ * <li>optional persistHighWaterMark() - schreibt die Obergrenze der reservierten IDs in eine Datei
+ * und liest sie beim Aktivieren wieder ein, so dass auch nie gespeicherte IDs nicht erneut vergeben werden</li>
+ * </ul>
+ *
+ * Für mehrere Instanzen, deren Exporte zusammengeführt werden, schaltet useSnowflakeIds() auf
+ * zeitlich sortierte IDs mit Knotennummer um (siehe SnowflakeIDGenerator). Alle beteiligten
+ * Instanzen müssen dann Snowflake-IDs mit verschiedenen Knotennummern verwenden.
  */
 public final class IDGenerator {
 
-    /** Aktuelle ID, wird bei jedem Aufruf erhöht. */
-    private static long currentID = 0;
+    /** Anzahl IDs, die sich ein Thread auf einmal reserviert */
+    static final int BLOCK_SIZE = 64;
+
+    /**
+     * Geladene IDs, über denen weniger als so viele IDs frei wären, werden ignoriert:
+     * der Zähler erreicht sie praktisch nie, würde aber sonst überlaufen (z.B. Long.MAX_VALUE in Fremddaten).
+     */
+    static final long RESERVE = 1L << 32;
+
+    /** Die Datei wird nur alle so viele IDs fortgeschrieben */
+    static final long PERSIST_STEP = 1L << 16;
+
+    /** Beginn des nächsten freien Blocks */
+    private static final AtomicLong nextBlock = new AtomicLong(1);
+
+    /** IDs bis einschließlich floor sind vergeben (geladen) -> Blöcke darunter verwerfen */
+    private static final AtomicLong floor = new AtomicLong(0);
+
+    /** Wird von reset() erhöht und macht damit alle Thread-Blöcke ungültig */
+    private static volatile int generation;
+
+    private static final ThreadLocal<Block> BLOCK = ThreadLocal.withInitial(Block::new);
+
+    /** null = fortlaufende IDs */
+    private static volatile SnowflakeIDGenerator snowflake;
+
+    private static final Object PERSIST_LOCK = new Object();
+    private static volatile Path markFile;
+    private static volatile long persistedMark;
 
     /** Privater Konstruktor verhindert Instanziierung. */
     private IDGenerator() {
@@ -16,18 +67,135 @@ public final class IDGenerator {
 
     /**
      * Generiert eine neue eindeutige ID.
-     * Thread-sicher durch synchronized.
+     * Thread-sicher ohne Sperre: nur beim Reservieren eines neuen Blocks ein atomares getAndAdd.
      * @return die nächste eindeutige ID
+     * @throws UncheckedIOException wenn die Hochwassermarke nicht geschrieben werden kann
+     */
+    public static long generateID() {
+        SnowflakeIDGenerator distributed = snowflake;
+        if (distributed != null) return distributed.nextId();
+
+        Block block = BLOCK.get();
+        long id = block.next;
+        if (id >= block.end || id <= floor.get() || block.generation != generation) {
+            id = block.refill();
+        }
+        block.next = id + 1;
+        return id;
+    }
+
+    /**
+     * Meldet eine bereits vergebene ID (z.B. beim Laden), damit sie nicht erneut erzeugt wird.
+     * Nicht-positive IDs und IDs im obersten Bereich (siehe RESERVE) werden ignoriert.
+     * @param id geladene ID
+     */
+    public static void observe(long id) {
+        SnowflakeIDGenerator distributed = snowflake;
+        if (distributed != null) distributed.observe(id);
+        if (id < 1 || id > Long.MAX_VALUE - RESERVE || id <= floor.get()) return;
+        floor.accumulateAndGet(id, Math::max);
+        nextBlock.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Vergibt ab jetzt Snowflake-IDs (Zeitstempel, Knoten, Folgenummer) statt fortlaufender IDs.
+     * @param nodeId eindeutige Nummer dieser Instanz, 0 bis SnowflakeIDGenerator.MAX_NODE_ID
      */
-    public static synchronized long generateID() {
-        return ++currentID;
+    public static void useSnowflakeIds(int nodeId) {
+        snowflake = new SnowflakeIDGenerator(nodeId);
+    }
+
+    /** Vergibt ab jetzt wieder fortlaufende IDs (Standard). */
+    public static void useSequentialIds() {
+        snowflake = null;
+    }
+
+    /**
+     * Schreibt ab jetzt die Obergrenze der reservierten IDs in die Datei (in Schritten von PERSIST_STEP,
+     * atomar über eine temporäre Datei). Eine vorhandene Marke wird zuerst eingelesen und über observe() übernommen.
+     * @param file Datei für die Hochwassermarke, null = nicht mehr schreiben
+     * @throws IOException wenn die Datei nicht gelesen oder geschrieben werden kann
+     */
+    public static void persistHighWaterMark(Path file) throws IOException {
+        synchronized (PERSIST_LOCK) {
+            markFile = null;
+            persistedMark = 0;
+            if (file == null) return;
+
+            if (Files.exists(file)) {
+                String mark = Files.readString(file, StandardCharsets.US_ASCII).trim();
+                try {
+                    observe(Long.parseLong(mark));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Ungültige Hochwassermarke in " + file + ": " + mark, e);
+                }
+            }
+            writeMark(file, nextBlock.get() - 1 + PERSIST_STEP);
+            markFile = file;
+        }
     }
 
     /**
-     * Setzt die ID zurück auf 0.
-     * Thread-sicher durch synchronized.
+     * Setzt die ID zurück auf 0, schaltet auf fortlaufende IDs und beendet das Schreiben der Hochwassermarke.
+     * Nur für Tests gedacht: bereits vergebene IDs werden danach erneut erzeugt.
      */
-    public static synchronized void reset() {
-        currentID = 0;
+    public static void reset() {
+        synchronized (PERSIST_LOCK) {
+            markFile = null;
+            persistedMark = 0;
+            snowflake = null;
+            nextBlock.set(1);
+            floor.set(0);
+            generation++;
+        }
+    }
+
+    // ------------------------- Hilfsmethoden ---------------------------
+
+    /** Schreibt die Marke fort, bevor IDs über der zuletzt gespeicherten vergeben werden. */
+    private static void ensurePersisted(long lastReserved) {
+        if (markFile == null || lastReserved <= persistedMark) return;
+        synchronized (PERSIST_LOCK) {
+            Path file = markFile;
+            if (file == null || lastReserved <= persistedMark) return;
+            try {
+                writeMark(file, lastReserved + PERSIST_STEP);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Hochwassermarke konnte nicht geschrieben werden: " + file, e);
+            }
+        }
+    }
+
+    /** Schreibt die Marke atomar und mit fsync -> nach einem Absturz nie leer oder halb geschrieben. */
+    private static void writeMark(Path file, long mark) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(Long.toString(mark).getBytes(StandardCharsets.US_ASCII));
+        AtomicFiles.write(file, true, channel -> {
+            while (content.hasRemaining()) channel.write(content);
+        });
+        persistedMark = mark;
+    }
+
+    /** Reservierte IDs eines Threads: next bis end (exklusiv) */
+    private static final class Block {
+
+        private long next;
+        private long end;
+        private int generation = -1;
+
+        /** Reserviert einen neuen Block oberhalb aller geladenen IDs und liefert dessen erste ID. */
+        long refill() {
+            int current = IDGenerator.generation;
+            while (true) {
+                long start = nextBlock.getAndAdd(BLOCK_SIZE);
+                if (start < 1) throw new IllegalStateException("Keine freien IDs mehr");
+                long first = Math.max(start, floor.get() + 1);
+                if (first < start + BLOCK_SIZE) {
+                    ensurePersisted(start + BLOCK_SIZE - 1);
+                    this.end = start + BLOCK_SIZE;
+                    this.generation = current;
+                    return first;
+                }
+            }
+        }
     }
 }
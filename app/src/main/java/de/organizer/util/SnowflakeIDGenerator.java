@@ -0,0 +1,105 @@
+package de.organizer.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Erzeugt zeitlich sortierte IDs nach dem Snowflake-Schema, damit mehrere Instanzen ohne Absprache
+ * IDs vergeben können, die beim Zusammenführen ihrer Exporte nicht kollidieren:
+ * <pre>
+ * Bit 63     | 62 .. 22                        | 21 .. 12 | 11 .. 0
+ * 0 (positiv) | Millisekunden seit EPOCH_MILLIS | Knoten   | Folgenummer
+ * </pre>
+ * Pro Knoten sind die IDs streng monoton. Über Knoten hinweg sortieren sie nach dem Erzeugungszeitpunkt
+ * (auf die Millisekunde genau, innerhalb derselben Millisekunde nach Knoten).
+ *
+ * Ohne Sperre: der letzte Wert liegt in einem AtomicLong und wird per CAS fortgeschrieben.
+ * Mehr als 4096 IDs pro Millisekunde oder eine zurückgestellte Uhr werden abgefangen, indem die
+ * Zeit logisch weiterläuft (die Uhr der IDs eilt dann kurz vor).
+ */
+public final class SnowflakeIDGenerator {
+
+	/** 2025-01-01T00:00:00Z - 41 Bit Millisekunden reichen damit bis etwa 2094 */
+	public static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+	public static final int NODE_BITS = 10;
+	public static final int SEQUENCE_BITS = 12;
+
+	/** Größte erlaubte Knotennummer (1023) */
+	public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+	private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final long NONE = -1;
+
+	private final int nodeId;
+	private final long nodeBits;
+	private final LongSupplier clock;
+	private final AtomicLong last = new AtomicLong(NONE);
+
+	/**
+	 * @param nodeId Nummer dieser Instanz, 0 bis MAX_NODE_ID; muss je Instanz eindeutig sein
+	 */
+	public SnowflakeIDGenerator(int nodeId) {
+		this(nodeId, System::currentTimeMillis);
+	}
+
+	/**
+	 * @param clock liefert Millisekunden seit 1970 (für Tests austauschbar)
+	 */
+	SnowflakeIDGenerator(int nodeId, LongSupplier clock) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("Knotennummer muss zwischen 0 und " + MAX_NODE_ID + " liegen: " + nodeId);
+		}
+		this.nodeId = nodeId;
+		this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+		this.clock = clock;
+	}
+
+	public int getNodeId() {return nodeId;}
+
+	/**
+	 * @return nächste ID dieses Knotens, größer als alle bisher erzeugten oder über observe() gemeldeten
+	 */
+	public long nextId() {
+		while (true) {
+			long previous = last.get();
+			long millis = Math.max(1, clock.getAsLong() - EPOCH_MILLIS);		// Uhr vor EPOCH -> keine negativen IDs
+			long fromClock = (millis << TIMESTAMP_SHIFT) | nodeBits;
+			long id = Math.max(fromClock, successor(previous));
+			if (last.compareAndSet(previous, id)) return id;
+		}
+	}
+
+	/**
+	 * Meldet eine geladene ID: stammt sie von diesem Knoten, geht es danach hinter ihr weiter
+	 * (schützt nach einem Neustart mit zurückgestellter Uhr vor Doppelten).
+	 */
+	public void observe(long id) {
+		if (id > 0 && nodeOf(id) == nodeId) last.accumulateAndGet(id, Math::max);
+	}
+
+	// ------------------------- Zerlegen ---------------------------
+
+	/** @return Erzeugungszeitpunkt der ID in Millisekunden seit 1970 */
+	public static long timestampOf(long id) {
+		return (id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+	}
+
+	/** @return Knotennummer der ID */
+	public static int nodeOf(long id) {
+		return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+	}
+
+	/** @return Folgenummer der ID innerhalb ihrer Millisekunde */
+	public static int sequenceOf(long id) {
+		return (int) (id & SEQUENCE_MASK);
+	}
+
+	/** Nächste ID desselben Knotens: Folgenummer + 1, bei Überlauf nächste Millisekunde */
+	private long successor(long id) {
+		if (id == NONE) return NONE;
+		if ((id & SEQUENCE_MASK) < SEQUENCE_MASK) return id + 1;
+		return ((id >>> TIMESTAMP_SHIFT) + 1) << TIMESTAMP_SHIFT | nodeBits;
+	}
+}
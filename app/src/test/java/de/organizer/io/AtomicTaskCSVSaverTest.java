@@ -0,0 +1,106 @@
+package de.organizer.io;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AtomicTaskCSVSaverTest {
+
+    @TempDir
+    File tempDir;
+
+    private static Task task(long id, String title) {
+        return Task.fromCsv(id, LocalDateTime.of(2025, 7, 28, 10, 0), Category.WORK, title, "",
+                null, null, Priority.MEDIUM, false);
+    }
+
+    @Test
+    void testSaveReplacesFileAndReportsLatency() throws IOException {
+        File file = new File(tempDir, "tasks.csv");
+        AtomicTaskCSVSaver saver = new AtomicTaskCSVSaver(FsyncPolicy.ALWAYS);
+
+        saver.save(List.of(task(1, "Alt")), file);
+        AtomicTaskCSVSaver.SaveReport report = saver.save(List.of(task(1, "Neu"), task(2, "Äpfel")), file);
+
+        List<Task> loaded = TaskCSVHandler.loadTasksFromCSV(file, StandardCharsets.UTF_8);
+        assertEquals(2, loaded.size());
+        assertEquals("Neu", loaded.get(0).getTitle());
+        assertEquals("Äpfel", loaded.get(1).getTitle());
+
+        assertTrue(report.isSynced());
+        assertEquals(2, report.getTaskCount());
+        assertEquals(file.length(), report.getBytesWritten());
+        assertTrue(report.getLatencyNanos() >= report.getSyncNanos());
+        assertEquals(2, saver.getSaveCount());
+        assertEquals(1, tempDir.listFiles().length, "keine temporären Dateien übrig");
+    }
+
+    @Test
+    void testFailedSaveKeepsOldFile() throws IOException {
+        File file = new File(tempDir, "tasks.csv");
+        AtomicTaskCSVSaver saver = new AtomicTaskCSVSaver(FsyncPolicy.NEVER);
+        saver.save(List.of(task(1, "Alt")), file);
+        byte[] before = Files.readAllBytes(file.toPath());
+
+        List<Task> failing = new AbstractList<Task>() {
+            @Override
+            public Task get(int index) {
+                if (index == 1) throw new IllegalStateException("Absturz beim Schreiben");
+                return task(index, "Neu");
+            }
+
+            @Override
+            public int size() {
+                return 3;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> saver.save(failing, file));
+        assertArrayEquals(before, Files.readAllBytes(file.toPath()));
+        assertEquals(1, tempDir.listFiles().length, "keine temporären Dateien übrig");
+    }
+
+    @Test
+    void testSaveKeepsPermissionsOfExistingFile() throws IOException {
+        assumeTrue(tempDir.toPath().getFileSystem().supportedFileAttributeViews().contains("posix"), "nur POSIX");
+        File file = new File(tempDir, "tasks.csv");
+        AtomicTaskCSVSaver saver = new AtomicTaskCSVSaver(FsyncPolicy.NEVER);
+        saver.save(List.of(task(1, "Alt")), file);
+        Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file.toPath(), shared);
+
+        saver.save(List.of(task(1, "Neu")), file);
+        assertEquals(shared, Files.getPosixFilePermissions(file.toPath()));
+    }
+
+    @Test
+    void testSyncPolicies() throws IOException {
+        File file = new File(tempDir, "tasks.csv");
+
+        AtomicTaskCSVSaver batched = new AtomicTaskCSVSaver(FsyncPolicy.BATCHED, Duration.ofHours(1));
+        assertTrue(batched.save(List.of(task(1, "A")), file).isSynced());
+        assertFalse(batched.save(List.of(task(1, "B")), file).isSynced());
+
+        AtomicTaskCSVSaver never = new AtomicTaskCSVSaver(FsyncPolicy.NEVER);
+        AtomicTaskCSVSaver.SaveReport report = never.save(List.of(task(1, "C")), file);
+        assertFalse(report.isSynced());
+        assertEquals(0, report.getSyncNanos());
+    }
+}
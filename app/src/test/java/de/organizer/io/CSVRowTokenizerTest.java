@@ -0,0 +1,92 @@
+package de.organizer.io;
+
+import de.organizer.util.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CSVRowTokenizerTest {
+
+    @Test
+    void testFieldCountMatchesStringSplit() throws IOException {
+        String[] lines = {"a;b;c", "a;;c", "a;b;;", ";a", "", ";;;", "x"};
+        try (CSVRowTokenizer tokenizer = new CSVRowTokenizer(new StringReader(String.join("\n", lines)), ';')) {
+            for (String line : lines) {
+                assertTrue(tokenizer.nextRow());
+                String[] expected = line.split(";");
+                int expectedCount = expected.length == 1 && expected[0].isEmpty() ? 0 : expected.length;
+                assertEquals(expectedCount, tokenizer.fieldCount(), "Zeile: " + line);
+                for (int i = 0; i < tokenizer.fieldCount(); i++) {
+                    assertEquals(expected[i], tokenizer.getString(i));
+                }
+            }
+            assertFalse(tokenizer.nextRow());
+        }
+    }
+
+    @Test
+    void testLineEndingsLikeReadLine() throws IOException {
+        try (CSVRowTokenizer tokenizer = new CSVRowTokenizer(new StringReader("a\r\nb\rc\n\nd\n"), ';')) {
+            assertTrue(tokenizer.nextRow());
+            assertEquals("a", tokenizer.getString(0));
+            assertTrue(tokenizer.nextRow());
+            assertEquals("b", tokenizer.getString(0));
+            assertTrue(tokenizer.nextRow());
+            assertEquals("c", tokenizer.getString(0));
+            assertTrue(tokenizer.nextRow());
+            assertEquals(0, tokenizer.fieldCount());
+            assertTrue(tokenizer.nextRow());
+            assertEquals("d", tokenizer.getString(0));
+            assertFalse(tokenizer.nextRow());
+        }
+    }
+
+    @Test
+    void testLinesLongerThanBuffer() throws IOException {
+        String longField = "x".repeat(100);
+        String data = longField + ";1\r\n" + longField + ";2";
+        try (CSVRowTokenizer tokenizer = new CSVRowTokenizer(new StringReader(data), ';', 7)) {
+            assertTrue(tokenizer.nextRow());
+            assertEquals(longField, tokenizer.getString(0));
+            assertEquals(1L, tokenizer.getLong(1));
+            assertTrue(tokenizer.nextRow());
+            assertEquals(2L, tokenizer.getLong(1));
+            assertFalse(tokenizer.nextRow());
+        }
+    }
+
+    @Test
+    void testTypedFieldsMatchJdkParsers() throws IOException {
+        String[] values = {"-42", "+7", "9223372036854775807", "TRUE", "false", "HIGH",
+                "2025-08-01", "2025-08-01T10:15", "2025-08-01T10:15:30", "2025-08-01T10:15:30.123",
+                "2025-08-01T10:15:30.123456789"};
+        try (CSVRowTokenizer tokenizer = new CSVRowTokenizer(new StringReader(String.join(";", values)), ';')) {
+            assertTrue(tokenizer.nextRow());
+            assertEquals(-42L, tokenizer.getLong(0));
+            assertEquals(7L, tokenizer.getLong(1));
+            assertEquals(Long.MAX_VALUE, tokenizer.getLong(2));
+            assertTrue(tokenizer.getBoolean(3));
+            assertFalse(tokenizer.getBoolean(4));
+            assertEquals(Priority.HIGH, tokenizer.getEnum(5, Priority.values()));
+            assertEquals(LocalDate.parse(values[6]), tokenizer.getLocalDate(6));
+            for (int i = 7; i < values.length; i++) {
+                assertEquals(LocalDateTime.parse(values[i]), tokenizer.getLocalDateTime(i));
+            }
+        }
+    }
+
+    @Test
+    void testInvalidValuesThrowLikeJdkParsers() throws IOException {
+        try (CSVRowTokenizer tokenizer = new CSVRowTokenizer(new StringReader("12a;UNKNOWN;2025-13-01"), ';')) {
+            assertTrue(tokenizer.nextRow());
+            assertThrows(NumberFormatException.class, () -> tokenizer.getLong(0));
+            assertThrows(IllegalArgumentException.class, () -> tokenizer.getEnum(1, Priority.values()));
+            assertThrows(java.time.DateTimeException.class, () -> tokenizer.getLocalDate(2));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package de.organizer.io;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTaskStoreTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testRoundTripAndLookupById() throws IOException {
+        Random random = new Random(4);
+        List<Task> tasks = new ArrayList<>(List.of(
+                Task.fromCsv(Long.MAX_VALUE, LocalDateTime.of(2025, 7, 28, 9, 5, 0, 123_456_789), Category.FINANCE,
+                        "Steuer 💶", "Ärger;mit\nZeilenumbruch", LocalDate.of(2025, 8, 1),
+                        LocalDateTime.of(2025, 7, 31, 18, 30, 15, 7), Priority.LOW, true),
+                Task.fromCsv(-3L, LocalDateTime.of(1999, 12, 31, 23, 59), Category.WORK,
+                        "x".repeat(100_000), "", LocalDate.of(1970, 1, 1), null, Priority.HIGH, false)));
+        for (int i = 0; i < 3000; i++) {
+            long id = random.nextInt(1_000_000) * 3L + i % 3;       // unsortiert, aber eindeutig
+            tasks.add(Task.fromCsv(id, LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(random.nextInt(1_000_000)),
+                    Category.values()[random.nextInt(6)], "Task " + i, random.nextBoolean() ? null : "Beschreibung " + i,
+                    random.nextBoolean() ? null : LocalDate.of(2025, 3, 1).plusDays(random.nextInt(300)),
+                    null, Priority.values()[random.nextInt(4)], random.nextBoolean()));
+        }
+        List<Task> unique = tasks.stream().collect(Collectors.toMap(Task::getId, t -> t, (a, b) -> a, LinkedHashMap::new))
+                .values().stream().collect(Collectors.toList());
+        File file = new File(tempDir, "tasks.otms");
+
+        MappedTaskStore.write(unique, file);
+        try (MappedTaskStore store = MappedTaskStore.openReadOnly(file)) {
+            assertEquals(unique.size(), store.size());
+            List<Task> loaded = store.stream().collect(Collectors.toList());
+            for (int i = 0; i < unique.size(); i++) {
+                assertArrayEquals(unique.get(i).toCsvRow(), loaded.get(i).toCsvRow());
+                assertEquals(unique.get(i).getCreatedAt(), loaded.get(i).getCreatedAt());
+                assertEquals(unique.get(i).getReminderDate(), loaded.get(i).getReminderDate());
+                assertEquals(i, store.indexOf(unique.get(i).getId()));
+            }
+            assertEquals("Steuer 💶", store.findById(Long.MAX_VALUE).getTitle());
+            assertNull(store.findById(2));
+            assertEquals(-1, store.indexOf(Long.MIN_VALUE));
+            assertThrows(ReadOnlyBufferException.class, () -> store.setDone(0, false));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(unique.size()));
+        }
+    }
+
+    @Test
+    void testSetDoneIsWrittenToFile() throws IOException {
+        File file = new File(tempDir, "tasks.otms");
+        MappedTaskStore.write(List.of(
+                Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Bericht", null, null, null, Priority.HIGH, false),
+                Task.fromCsv(2L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Folien", null, null, null, Priority.LOW, true)), file);
+
+        try (MappedTaskStore store = MappedTaskStore.open(file)) {
+            store.setDone(0, true);
+            store.setDone(1, false);
+            store.force();
+        }
+        try (MappedTaskStore store = MappedTaskStore.openReadOnly(file)) {
+            assertTrue(store.isDone(0));
+            assertFalse(store.findById(2).isDone());
+            assertEquals(Priority.LOW, store.get(1).getPriority());
+        }
+    }
+
+    @Test
+    void testRejectsDuplicateIdsAndForeignFiles() throws IOException {
+        Task task = Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Bericht", null, null, null, Priority.HIGH, false);
+        File file = new File(tempDir, "tasks.otms");
+        assertThrows(IllegalArgumentException.class, () -> MappedTaskStore.write(List.of(task, task), file));
+        assertEquals(0, tempDir.listFiles((dir, name) -> name.endsWith(".strings")).length);
+
+        Files.writeString(file.toPath(), "id;createdAt;category\n".repeat(10));
+        assertThrows(IOException.class, () -> MappedTaskStore.openReadOnly(file));
+        MappedTaskStore.write(List.of(task), file);
+        Files.write(file.toPath(), new byte[] {1}, StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> MappedTaskStore.openReadOnly(file));
+    }
+
+    @Test
+    void testFailedWriteKeepsExistingArchive() throws IOException {
+        Task task = Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Bericht", null, null, null, Priority.HIGH, false);
+        Task other = Task.fromCsv(2L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Anruf", null, null, null, Priority.LOW, false);
+        File file = new File(tempDir, "tasks.otms");
+        MappedTaskStore.write(List.of(task, other), file);
+
+        try (MappedTaskStore mapped = MappedTaskStore.openReadOnly(file)) {
+            assertThrows(IllegalArgumentException.class, () -> MappedTaskStore.write(List.of(other, task, other), file));
+            assertEquals("Anruf", mapped.findById(2).getTitle()); // Abbildung weiterhin gültig
+        }
+        try (MappedTaskStore store = MappedTaskStore.openReadOnly(file)) {
+            assertEquals(2, store.size());
+            assertEquals("Bericht", store.findById(1).getTitle());
+        }
+        assertArrayEquals(new String[] {"tasks.otms"}, tempDir.list());
+    }
+}
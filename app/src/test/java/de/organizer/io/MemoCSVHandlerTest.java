@@ -0,0 +1,84 @@
+package de.organizer.io;
+
+import de.organizer.model.Memo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoCSVHandlerTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testSaveAndLoadFreeText() throws IOException {
+        List<Memo> memos = List.of(
+                Memo.fromCsv(1L, "2025-07-28T10:00", "Einkauf", "Milch; Brot\nund \"Bio\"-Käse"),
+                Memo.fromCsv(2L, "2025-07-28T10:05:30", null, "Zeile 1\r\nZeile 2;"),
+                Memo.fromCsv(3L, "2025-07-28T11:00", "Kurz", "einfach"));
+        File file = new File(tempDir, "memos.csv");
+
+        MemoCSVHandler.saveMemosAsCSV(memos, file);
+        List<Memo> loaded = MemoCSVHandler.loadMemosFromCSV(file);
+
+        assertEquals(memos.size(), loaded.size());
+        for (int i = 0; i < memos.size(); i++) {
+            assertArrayEquals(memos.get(i).toCsvRow(), loaded.get(i).toCsvRow());
+        }
+        try (Stream<Memo> stream = MemoCSVHandler.streamMemosFromCSV(file)) {
+            assertEquals(List.of(1L, 2L, 3L), stream.map(Memo::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testIncompleteRecordsAreSkipped() throws IOException {
+        File file = new File(tempDir, "memos.csv");
+        Files.writeString(file.toPath(), "id;createdAt;title;content\r\n"
+                + "1;2025-07-28T10:00;;nur drei\r\n"
+                + "\r\n"
+                + "2;2025-07-28T10:00;Titel;\"mehrzeilig\nok\"\r\n"
+                + "3;2025-07-28T10:00;Titel;\"nie geschlossen", StandardCharsets.UTF_8);
+
+        List<Memo> loaded = MemoCSVHandler.loadMemosFromCSV(file);
+
+        assertEquals(2, loaded.size());
+        assertNull(loaded.get(0).getTitle());
+        assertEquals("mehrzeilig\nok", loaded.get(1).getContent());
+    }
+
+    @Test
+    void testQuotedReaderFollowsRfc4180() throws IOException {
+        try (QuotedCSVReader reader = new QuotedCSVReader(new StringReader("a;\"b;\"\"c\"\"\";\r\n\"\"\n"), ';')) {
+            assertArrayEquals(new String[] {"a", "b;\"c\"", ""}, reader.readRecord());
+            assertArrayEquals(new String[] {""}, reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void testFieldsLongerThanReadBuffer() throws IOException {
+        String content = "Absatz \"mit\" Zitat;\n".repeat(2000);
+        String plain = "x".repeat(20000);
+        File file = new File(tempDir, "memos.csv");
+
+        MemoCSVHandler.saveMemosAsCSV(List.of(
+                Memo.fromCsv(1L, "2025-07-28T10:00", plain, content),
+                Memo.fromCsv(2L, "2025-07-28T10:00", "Titel", plain)), file);
+        List<Memo> loaded = MemoCSVHandler.loadMemosFromCSV(file);
+
+        assertEquals(2, loaded.size());
+        assertEquals(content, loaded.get(0).getContent());
+        assertEquals(plain, loaded.get(0).getTitle());
+        assertEquals(plain, loaded.get(1).getContent());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package de.organizer.io;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskBinaryHandlerTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testRoundTripIsLossless() throws IOException {
+        List<Task> tasks = List.of(
+                Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 5, 0, 123_456_789), Category.OTHER,
+                        "Zimmer aufräumen", null, null, null, Priority.URGENT, false),
+                Task.fromCsv(Long.MAX_VALUE, LocalDateTime.of(1999, 12, 31, 23, 59), Category.FINANCE,
+                        "Steuer 💶", "Ärger;mit\nZeilenumbruch", LocalDate.of(2025, 8, 1),
+                        LocalDateTime.of(2025, 7, 31, 18, 30, 15), Priority.LOW, true),
+                Task.fromCsv(3L, LocalDateTime.of(2025, 1, 1, 0, 0), Category.WORK,
+                        "x".repeat(1000), "", LocalDate.of(1970, 1, 1), null, Priority.HIGH, false));
+        File file = new File(tempDir, "tasks.bin");
+
+        TaskBinaryHandler.saveTasksAsBinary(tasks, file);
+        List<Task> loaded = TaskBinaryHandler.loadTasksFromBinary(file);
+
+        assertEquals(tasks.size(), loaded.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task expected = tasks.get(i);
+            Task actual = loaded.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+            assertEquals(expected.getCategory(), actual.getCategory());
+            assertEquals(expected.getTitle(), actual.getTitle());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getDueDate(), actual.getDueDate());
+            assertEquals(expected.getReminderDate(), actual.getReminderDate());
+            assertEquals(expected.getPriority(), actual.getPriority());
+            assertEquals(expected.isDone(), actual.isDone());
+        }
+    }
+
+    @Test
+    void testRejectsForeignFiles() throws IOException {
+        File file = new File(tempDir, "tasks.csv");
+        Files.writeString(file.toPath(), "id;createdAt;category\n");
+        assertThrows(IOException.class, () -> TaskBinaryHandler.loadTasksFromBinary(file));
+    }
+
+    @Test
+    void testRejectsCorruptTaskCount() {
+        // Kopf mit unsinniger Anzahl und ohne Datensätze -> IOException statt OutOfMemoryError
+        for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+            ByteBuffer header = ByteBuffer.allocate(9).putInt(TaskBinaryHandler.MAGIC).put(TaskBinaryHandler.VERSION).putInt(count);
+            assertThrows(IOException.class, () -> TaskBinaryHandler.readTasks(new ByteArrayInputStream(header.array())));
+        }
+    }
+
+    @Test
+    void testRejectsCorruptStringLength() throws IOException {
+        Task task = Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Bericht", null,
+                null, null, Priority.HIGH, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskBinaryHandler.writeTasks(List.of(task), out);
+        byte[] snapshot = out.toByteArray();
+        // Länge des Titels (direkt vor "Bericht") auf Integer.MAX_VALUE setzen, Datei endet danach
+        ByteBuffer.wrap(snapshot).putInt(snapshot.length - "Bericht".length() - 4, Integer.MAX_VALUE);
+
+        assertThrows(IOException.class, () -> TaskBinaryHandler.readTasks(new ByteArrayInputStream(snapshot)));
+    }
+
+    @Test
+    void testGzipSnapshotIsDetectedByExtension() throws IOException {
+        List<Task> tasks = List.of(Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK,
+                "Bericht", null, null, null, Priority.HIGH, false));
+        File file = new File(tempDir, "tasks.bin.gz");
+
+        TaskBinaryHandler.saveTasksAsBinary(tasks, file, CompressionOptions.forFile(file));
+
+        assertEquals(StandardCompressionCodec.GZIP, CompressionOptions.forFile(file).getCodec());
+        assertEquals("Bericht", TaskBinaryHandler.loadTasksFromBinary(file, CompressionOptions.forFile(file)).get(0).getTitle());
+        assertThrows(IOException.class, () -> TaskBinaryHandler.loadTasksFromBinary(file));
+    }
+}
\ No newline at end of file
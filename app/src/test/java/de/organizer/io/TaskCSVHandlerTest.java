@@ -9,9 +9,14 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,4 +67,138 @@ class TaskCSVHandlerTest {
     void testFileIsCreated() {
         assertTrue(tempFile.exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStreamTasksMatchesLoadTasks() throws IOException {
+        Files.writeString(tempFile.toPath(), String.join("\n",
+                String.join(";", Task.CSV_HEADER),
+                "1;2025-01-01T10:00;WORK;Einkaufen;Milch;2025-08-01;;MEDIUM;false",
+                "2;2025-01-01T10:00;WORK;unvollständig",
+                "3;2025-01-02T11:30:15;HEALTH;Arzt;;;2025-08-10T09:00;HIGH;true"));
+
+        List<Task> loadedTasks = TaskCSVHandler.loadTasksFromCSV(tempFile);
+        List<Task> streamedTasks;
+        try (Stream<Task> stream = TaskCSVHandler.streamTasksFromCSV(tempFile)) {
+            streamedTasks = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(2, streamedTasks.size());
+        assertEquals(loadedTasks.size(), streamedTasks.size());
+        for (int i = 0; i < loadedTasks.size(); i++) {
+            assertArrayEquals(loadedTasks.get(i).toCsvRow(), streamedTasks.get(i).toCsvRow());
+        }
+    }
+
+    @Test
+    void testParallelLoadMatchesSequentialLoad() throws IOException {
+        StringBuilder csv = new StringBuilder(String.join(";", Task.CSV_HEADER)).append("\r\n");
+        for (int i = 1; i <= 500; i++) {
+            if (i % 50 == 0) {
+                csv.append(i).append(";2025-01-01T10:00;WORK;unvollständig\n");
+                continue;
+            }
+            csv.append(i).append(";2025-01-01T10:00:").append(String.format("%02d", i % 60))
+               .append(";OTHER;Aufgabe ").append(i).append(";Beschreibung;")
+               .append(i % 3 == 0 ? "" : "2025-08-01").append(";;LOW;").append(i % 2 == 0).append("\r\n");
+        }
+        Files.writeString(tempFile.toPath(), csv);
+
+        List<Task> sequential = TaskCSVHandler.loadTasksFromCSV(tempFile);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Task> parallel;
+        try {
+            parallel = ParallelTaskCSVReader.load(tempFile, pool, 37);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(490, sequential.size());
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertArrayEquals(sequential.get(i).toCsvRow(), parallel.get(i).toCsvRow());
+        }
+        assertEquals(sequential.size(), TaskCSVHandler.loadTasksFromCSVParallel(tempFile).size());
+    }
+
+    @Test
+    void testUTF8ChannelWriterMatchesCsvRows() throws IOException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 28, 9, 5, 0, 120_000_000);
+        List<Task> tasks = List.of(
+                Task.fromCsv(7L, createdAt, Category.PERSONAL, "Zimmer aufräumen", null,
+                        null, null, Priority.LOW, false),
+                Task.fromCsv(-3L, LocalDateTime.of(2025, 1, 1, 0, 0), Category.FINANCE, "Steuer 💶", "Ärger ß",
+                        LocalDate.of(2025, 8, 1), LocalDateTime.of(2025, 7, 31, 18, 30, 15, 1), Priority.URGENT, true));
+
+        TaskCSVHandler.saveTasksAsUTF8CSV(tasks, tempFile);
+
+        List<String> lines = Files.readAllLines(tempFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(String.join(";", Task.CSV_HEADER), lines.get(0));
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(String.join(";", tasks.get(i).toCsvRow()), lines.get(i + 1));
+        }
+
+        List<Task> loadedTasks = TaskCSVHandler.loadTasksFromCSV(tempFile, StandardCharsets.UTF_8);
+        assertEquals("Steuer 💶", loadedTasks.get(1).getTitle());
+        assertEquals(tasks.get(1).getReminderDate(), loadedTasks.get(1).getReminderDate());
+    }
+
+    @Test
+    void testCompressedRoundTrip() throws IOException {
+        List<Task> tasks = List.of(
+                Task.fromCsv(1L, LocalDateTime.of(2025, 7, 28, 9, 0), Category.WORK, "Bericht", "Kapitel 2",
+                        LocalDate.of(2025, 8, 1), null, Priority.HIGH, false),
+                Task.fromCsv(2L, LocalDateTime.of(2025, 7, 28, 9, 30), Category.HEALTH, "Arzttermin", "",
+                        null, LocalDateTime.of(2025, 8, 10, 8, 0), Priority.MEDIUM, true));
+
+        for (StandardCompressionCodec codec : StandardCompressionCodec.values()) {
+            File file = File.createTempFile("tasks", ".csv" + codec.getExtension());
+            file.deleteOnExit();
+            CompressionOptions options = new CompressionOptions.Builder().codec(codec).level(9).bufferSize(512).build();
+
+            TaskCSVHandler.saveTasksAsCSV(tasks, file, options);
+
+            List<Task> loaded = TaskCSVHandler.loadTasksFromCSV(file, CompressionOptions.forFile(file));
+            assertEquals(2, loaded.size(), codec.name());
+            assertArrayEquals(tasks.get(1).toCsvRow(), loaded.get(1).toCsvRow());
+            try (Stream<Task> stream = TaskCSVHandler.streamTasksFromCSV(file, options)) {
+                assertEquals(2, stream.count());
+            }
+        }
+    }
+
+    @Test
+    void testDeduplicatedLoadSharesRepeatedTitles() throws IOException {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 28, 9, 0);
+        List<Task> tasks = List.of(
+                Task.fromCsv(1L, createdAt, Category.SHOPPING, "Einkaufen", "Wochenmarkt", null, null, Priority.LOW, false),
+                Task.fromCsv(2L, createdAt, Category.SHOPPING, "Einkaufen", "Wochenmarkt", null, null, Priority.LOW, true),
+                Task.fromCsv(3L, createdAt, Category.WORK, "Bericht", "", null, null, Priority.HIGH, false));
+        TaskCSVHandler.saveTasksAsUTF8CSV(tasks, tempFile);
+
+        StringDeduplicator pool = new StringDeduplicator();
+        List<Task> loaded = TaskCSVHandler.loadTasksFromCSV(tempFile, StandardCharsets.UTF_8, pool);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            assertArrayEquals(tasks.get(i).toCsvRow(), loaded.get(i).toCsvRow());
+        }
+        assertSame(loaded.get(0).getTitle(), loaded.get(1).getTitle());
+        assertSame(loaded.get(0).getDescription(), loaded.get(1).getDescription());
+        assertEquals(2, pool.getHits());
+        assertEquals(2 * (24 + 32), pool.getSavedBytes()); // String + byte[16 + 9 bzw. 11 -> 32]
+    }
+
+    @Test
+    void testDeduplicatorStaysBounded() {
+        StringDeduplicator pool = new StringDeduplicator(2, 4);
+        char[] chars = "abcdefgh".toCharArray();
+
+        String ab = pool.deduplicate(chars, 0, 2);
+        assertSame(ab, pool.deduplicate("ab"));
+        pool.deduplicate(chars, 2, 2);
+        String ef = pool.deduplicate(chars, 4, 2);  // Pool voll -> neuer String, nicht gemerkt
+        assertNotSame(ef, pool.deduplicate(chars, 4, 2));
+        assertNotSame(pool.deduplicate(chars, 0, 5), pool.deduplicate(chars, 0, 5)); // zu lang
+        assertEquals(2, pool.size());
+        assertEquals(1, pool.getHits());
+    }
+}
@@ -0,0 +1,145 @@
+package de.organizer.io;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskJournalTest {
+
+    @TempDir
+    File tempDir;
+
+    private static Task task(long id, String title) {
+        return Task.fromCsv(id, LocalDateTime.of(2025, 7, 28, 10, 0), Category.SHOPPING, title, "",
+                LocalDate.of(2025, 8, 1), null, Priority.LOW, false);
+    }
+
+    @Test
+    void testReplayAfterReopen() throws IOException {
+        File snapshot = new File(tempDir, "tasks.csv");
+
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            Task milk = task(1, "Milch");
+            journal.recordCreate(milk);
+            journal.recordCreate(task(2, "Brot"));
+            journal.recordCreate(task(3, "Käse"));
+            milk.toggleDone();
+            journal.recordDone(milk);
+            journal.recordUpdate(task(2, "Vollkornbrot"));
+            journal.recordDelete(3);
+        }
+
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            List<Task> tasks = journal.getTasks();
+            assertEquals(2, tasks.size());
+            assertEquals("Milch", tasks.get(0).getTitle());
+            assertTrue(tasks.get(0).isDone());
+            assertEquals("Vollkornbrot", tasks.get(1).getTitle());
+        }
+    }
+
+    @Test
+    void testTornLastRecordIsDiscarded() throws IOException {
+        File snapshot = new File(tempDir, "tasks.csv");
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            journal.recordCreate(task(1, "Milch"));
+        }
+        Files.writeString(TaskJournal.journalFileFor(snapshot).toPath(), "CREATE;2;2025-07-28T10:00;SHO",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            assertEquals(1, journal.getTasks().size());
+            journal.recordCreate(task(2, "Brot"));
+        }
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            assertEquals(2, journal.getTasks().size());
+        }
+    }
+
+    @Test
+    void testCompactionMovesStateIntoSnapshot() throws IOException {
+        File snapshot = new File(tempDir, "tasks.csv");
+        try (TaskJournal journal = TaskJournal.open(snapshot, FsyncPolicy.NEVER, Long.MAX_VALUE)) {
+            for (int i = 1; i <= 100; i++) {
+                journal.recordCreate(task(i, "Aufgabe " + i));
+            }
+            journal.compact();
+            assertEquals(0, journal.getJournalSize());
+            journal.recordDelete(100);
+            assertTrue(journal.getJournalSize() > 0);
+        }
+
+        assertEquals(100, TaskCSVHandler.loadTasksFromCSV(snapshot, StandardCharsets.UTF_8).size());
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            assertEquals(99, journal.getTasks().size());
+        }
+    }
+
+    @Test
+    void testBackgroundCompactionAfterThreshold() throws IOException {
+        File snapshot = new File(tempDir, "tasks.csv");
+        try (TaskJournal journal = TaskJournal.open(snapshot, FsyncPolicy.NEVER, 2048)) {
+            for (int i = 1; i <= 200; i++) {
+                journal.recordCreate(task(i, "Aufgabe " + i));
+            }
+        }
+        assertTrue(snapshot.exists(), "Snapshot wurde im Hintergrund geschrieben");
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            assertEquals(200, journal.getTasks().size());
+        }
+    }
+
+    @Test
+    void testLineBreaksAndSeparatorsInTextSurviveReplay() throws IOException {
+        File snapshot = new File(tempDir, "tasks.csv");
+        String title = "Einkauf;\"Bio\"\nMilch\r\nBrot";
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            journal.recordCreate(task(1, title));
+            journal.recordCreate(task(2, "Brot"));
+        }
+        // unbekannter Satztyp und kaputte id werden übersprungen, nicht als Fehler gemeldet
+        Files.writeString(TaskJournal.journalFileFor(snapshot).toPath(), "RENAME;1;x\r\nDELETE;abc\r\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            List<Task> tasks = journal.getTasks();
+            assertEquals(2, tasks.size());
+            assertEquals(title, tasks.get(0).getTitle());
+            journal.recordUpdate(task(2, "Brot\nund Butter"));
+        }
+        // abgerissener Satz innerhalb eines gequoteten Feldes
+        Files.writeString(TaskJournal.journalFileFor(snapshot).toPath(), "UPDATE;1;2025-07-28T10:00;SHOPPING;\"Zeile\nZei",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            assertEquals(title, journal.getTasks().get(0).getTitle());
+            assertEquals("Brot\nund Butter", journal.getTasks().get(1).getTitle());
+            journal.recordDelete(1);
+        }
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            assertEquals(1, journal.getTasks().size());
+            journal.recordCreate(task(3, title));
+            journal.compact();
+            assertEquals(0, journal.getJournalSize());
+        }
+        // nach der Kompaktierung steht der Text nur noch im Snapshot
+        try (TaskJournal journal = TaskJournal.open(snapshot)) {
+            List<Task> tasks = journal.getTasks();
+            assertEquals(2, tasks.size());
+            assertEquals("Brot\nund Butter", tasks.get(0).getTitle());
+            assertEquals(title, tasks.get(1).getTitle());
+        }
+    }
+}
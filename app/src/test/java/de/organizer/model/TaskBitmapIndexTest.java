@@ -0,0 +1,105 @@
+package de.organizer.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class TaskBitmapIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void testBitmapOperationsMatchBitSet() {
+        Random random = new Random(5);
+        for (int round = 0; round < 20; round++) {
+            BitSet expectedA = new BitSet(), expectedB = new BitSet();
+            CompressedBitmap a = randomBitmap(random, expectedA);
+            CompressedBitmap b = randomBitmap(random, expectedB);
+
+            BitSet and = (BitSet) expectedA.clone();
+            and.and(expectedB);
+            BitSet or = (BitSet) expectedA.clone();
+            or.or(expectedB);
+            BitSet andNot = (BitSet) expectedA.clone();
+            andNot.andNot(expectedB);
+
+            assertEquals(expectedA.cardinality(), a.cardinality());
+            assertEquals(and.stream().boxed().collect(Collectors.toList()), values(a.and(b)));
+            assertEquals(and.cardinality(), a.andCardinality(b));
+            assertEquals(or.stream().boxed().collect(Collectors.toList()), values(a.or(b)));
+            assertEquals(or.stream().boxed().collect(Collectors.toList()), values(CompressedBitmap.orAll(List.of(a, b, a.and(b)))));
+            assertEquals(andNot.stream().boxed().collect(Collectors.toList()), values(a.andNot(b)));
+            int probe = random.nextInt(300_000);
+            assertEquals(expectedA.get(probe), a.contains(probe));
+        }
+        assertEquals(IntStream.range(65530, 200_003).boxed().collect(Collectors.toList()), values(CompressedBitmap.range(65530, 200_003)));
+        assertTrue(CompressedBitmap.range(7, 7).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    void testQueriesMatchStreamFilter() {
+        Random random = new Random(17);
+        List<Task> tasks = new ArrayList<>();
+        for (int id = 0; id < 50_000; id++) {
+            LocalDate dueDate = random.nextInt(5) == 0 ? null : START.plusDays(random.nextInt(400));
+            tasks.add(Task.fromCsv(id, LocalDateTime.of(2025, 6, 1, 9, 0), Category.values()[random.nextInt(6)], "Task " + id,
+                    null, dueDate, null, Priority.values()[random.nextInt(4)], random.nextInt(10) < 7));
+        }
+        TaskBitmapIndex index = new TaskBitmapIndex(tasks);
+        LocalDate weekEnd = START.plusDays(6);
+
+        assertSameResults(index, tasks, TaskQuery.all(), task -> true);
+        assertSameResults(index, tasks,
+                TaskQuery.done(false).and(TaskQuery.priority(Priority.URGENT).or(TaskQuery.priority(Priority.HIGH))),
+                task -> !task.isDone() && (task.getPriority() == Priority.URGENT || task.getPriority() == Priority.HIGH));
+        assertSameResults(index, tasks,
+                TaskQuery.category(Category.WORK).not().and(TaskQuery.dueBetween(START, weekEnd)),
+                task -> task.getCategory() != Category.WORK && task.getDueDate() != null && !task.getDueDate().isAfter(weekEnd));
+        assertSameResults(index, tasks,
+                TaskQuery.hasDueDate().andNot(TaskQuery.dueBetween(null, START.plusDays(199))).and(TaskQuery.done(true)),
+                task -> task.getDueDate() != null && task.getDueDate().isAfter(START.plusDays(199)) && task.isDone());
+        assertSameResults(index, tasks, TaskQuery.dueBetween(null, null).not(), task -> task.getDueDate() == null);
+        assertThrows(IllegalArgumentException.class, () -> TaskQuery.dueBetween(weekEnd, START));
+    }
+
+    private static void assertSameResults(TaskBitmapIndex index, List<Task> tasks, TaskQuery query, Predicate<Task> predicate) {
+        List<Task> expected = tasks.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expected.size(), index.count(query));
+        assertEquals(expected, index.select(query));
+    }
+
+    /** Mischt dünne und dichte Blöcke, damit beide Darstellungen und ihre Übergänge vorkommen. */
+    private static CompressedBitmap randomBitmap(Random random, BitSet expected) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int block = 0; block < 5; block++) {
+            int density = new int[] {0, 1, 6, 50, 95}[random.nextInt(5)];
+            for (int low = 0; low < 65536; low++) {
+                if (random.nextInt(100) < density) {
+                    bitmap.add(block * 65536 + low);
+                    expected.set(block * 65536 + low);
+                }
+            }
+        }
+        for (int i = 0; i < 100; i++) {		// nicht aufsteigend
+            int value = random.nextInt(5 * 65536);
+            bitmap.add(value);
+            expected.set(value);
+        }
+        return bitmap;
+    }
+
+    private static List<Integer> values(CompressedBitmap bitmap) {
+        return IntStream.of(bitmap.toArray()).boxed().collect(Collectors.toList());
+    }
+}
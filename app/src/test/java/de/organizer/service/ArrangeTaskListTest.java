@@ -8,8 +8,14 @@ import de.organizer.util.Category;
 import de.organizer.util.IDGenerator;
 import de.organizer.util.Priority;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 public class ArrangeTaskListTest {
 
@@ -104,4 +110,154 @@ public class ArrangeTaskListTest {
         assertEquals("Test", equalTasks.get(0).getTitle());
         assertEquals("Test", equalTasks.get(1).getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLinearSortsMatchComparatorSorts() {
+        List<Task> large = randomTasks(5000);
+
+        assertSameOrder(large, ArrangeTaskList.by((Task t) -> t.getPriority().getLevel()), ArrangeTaskList::sortByPriority);
+        assertSameOrder(large, ArrangeTaskList.by((Task t) -> t.getCategory().getLabel()), ArrangeTaskList::sortByCategory);
+        assertSameOrder(large, ArrangeTaskList.by(Task::getDueDate), ArrangeTaskList::sortByDueDate);
+    }
+
+    @Test
+    void testKeySortsMatchComparatorSorts() {
+        List<Task> large = randomTasks(5000);
+
+        assertSameOrder(large, Comparator.comparing(Task::getTitle, String.CASE_INSENSITIVE_ORDER), ArrangeTaskList::sortByTitle);
+        assertSameOrder(large, ArrangeTaskList.by((Task t) -> t.getPriority().getLevel())
+                .thenComparing(ArrangeTaskList.by(Task::getDueDate)), ArrangeTaskList::sortByPriorityDueDate);
+        assertSameOrder(large, ArrangeTaskList.by((Task t) -> t.getCategory().getLabel())
+                .thenComparing(ArrangeTaskList.by(Task::getDueDate)), ArrangeTaskList::sortByCategoryDueDate);
+        assertSameOrder(large, ArrangeTaskList.by(Task::getCreatedAt), ArrangeTaskList::sortByOldest);
+        assertSameOrder(large, ArrangeTaskList.by(Task::getCreatedAt).reversed(), ArrangeTaskList::sortByNewest);
+    }
+
+    @Test
+    void testParallelSortsMatchSequentialSorts() {
+        List<Task> large = randomTasks(20000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Schwelle 0 -> parallel trotz kleiner Liste und unabhängig vom Common-Pool
+            assertParallelMatches(large, ArrangeTaskList::sortByPriority,           // gepackte longs (2 Bit Schlüssel)
+                    list -> ArrangeTaskList.sortByPriorityParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByCategory,
+                    list -> ArrangeTaskList.sortByCategoryParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByTitle,
+                    list -> ArrangeTaskList.sortByTitleParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByDueDate,            // null-Schlüssel -> KeyedTask
+                    list -> ArrangeTaskList.sortByDueDateParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByPriorityDueDate,
+                    list -> ArrangeTaskList.sortByPriorityDueDateParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByCategoryDueDate,
+                    list -> ArrangeTaskList.sortByCategoryDueDateParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByNewest,             // ~53 Bit Nanosekunden -> KeyedTask
+                    list -> ArrangeTaskList.sortByNewestParallel(list, pool, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByOldest,
+                    list -> ArrangeTaskList.sortByOldestParallel(list, pool, 0));
+
+            // beide Zweige von parallelSortByKey direkt, mit vielen gleichen Schlüsseln
+            assertParallelMatches(large, list -> TaskSorter.sortByKey(list, t -> t.getId() % 7),
+                    list -> TaskSorter.parallelSortByKey(list, t -> t.getId() % 7, pool));
+            assertParallelMatches(large, list -> TaskSorter.sortByKey(list, t -> (t.getId() % 7) << 60),
+                    list -> TaskSorter.parallelSortByKey(list, t -> (t.getId() % 7) << 60, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelVariantsFallBackBelowThreshold() {
+        List<Task> large = randomTasks(20000);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            assertParallelMatches(large, ArrangeTaskList::sortByDueDate,
+                    list -> ArrangeTaskList.sortByDueDateParallel(list, single, 0));
+            assertParallelMatches(large, ArrangeTaskList::sortByPriorityDueDate, ArrangeTaskList::sortByPriorityDueDateParallel);
+            assertParallelMatches(large, ArrangeTaskList::sortByNewest, ArrangeTaskList::sortByNewestParallel);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testTopKAndPageMatchFullSort() {
+        List<Task> large = randomTasks(3000);
+        List<Long> before = large.stream().map(Task::getId).toList();
+
+        for (TaskOrder order : TaskOrder.values()) {
+            List<Task> sorted = new ArrayList<>(large);
+            order.sort(sorted);
+
+            assertIterableEquals(sorted.subList(0, 20), ArrangeTaskList.topK(large, order, 20), order.name());
+            assertIterableEquals(sorted.subList(40, 60), ArrangeTaskList.page(large, order, 40, 20), order.name());
+            assertIterableEquals(sorted.subList(2990, 3000), ArrangeTaskList.page(large, order, 2990, 20), order.name());
+            assertIterableEquals(sorted, ArrangeTaskList.topK(large, order, 5000), order.name());
+        }
+        assertTrue(ArrangeTaskList.page(large, TaskOrder.TITLE, 3000, 10).isEmpty());
+        assertTrue(ArrangeTaskList.topK(large, TaskOrder.TITLE, 0).isEmpty());
+        assertIterableEquals(before, large.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void testTopKKeepsNullsLast() {
+        List<Task> withNull = new ArrayList<>(tasks);
+        withNull.add(0, Task.fromCsv(99, LocalDateTime.of(2025, 1, 1, 0, 0), Category.WORK, "Ohne Datum", null,
+                null, null, Priority.LOW, false));
+
+        List<Task> top = ArrangeTaskList.topK(withNull, TaskOrder.DUE_DATE, 4);
+        assertEquals(LocalDate.of(2015, 1, 1), top.get(0).getDueDate());
+        assertNull(top.get(3).getDueDate());
+        List<Task> lowFirst = ArrangeTaskList.topK(withNull, TaskOrder.PRIORITY_DUE_DATE, 2);
+        assertEquals(LocalDate.of(2020, 1, 1), lowFirst.get(0).getDueDate());
+        assertEquals(99L, lowFirst.get(1).getId());
+    }
+
+    @Test
+    void testSortByNewest() {
+        ArrangeTaskList.sortByNewest(tasks);
+        assertFalse(tasks.get(0).getCreatedAt().isBefore(tasks.get(1).getCreatedAt()));
+        assertFalse(tasks.get(1).getCreatedAt().isBefore(tasks.get(2).getCreatedAt()));
+
+        List<Task> dated = randomTasks(10);
+        ArrangeTaskList.sortByNewest(dated);
+        for (int i = 1; i < dated.size(); i++) {
+            assertFalse(dated.get(i - 1).getCreatedAt().isBefore(dated.get(i).getCreatedAt()));
+        }
+    }
+
+    private static List<Task> randomTasks(int count) {
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        Priority[] priorities = Priority.values();
+        List<Task> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDate dueDate = random.nextInt(5) == 0 ? null : LocalDate.of(1960, 1, 1).plusDays(random.nextInt(40000));
+            if (i == 0) dueDate = LocalDate.MIN;
+            if (i == 1) dueDate = LocalDate.MAX;
+            list.add(Task.fromCsv(i, LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(random.nextInt(100000)),
+                    categories[random.nextInt(categories.length)], (random.nextBoolean() ? "Task " : "task ") + random.nextInt(100), null,
+                    dueDate, null, priorities[random.nextInt(priorities.length)], false));
+        }
+        return list;
+    }
+
+    /** Vergleicht mit List.sort(comparator) -> gleiche Reihenfolge inkl. Stabilität (ids) */
+    private static void assertParallelMatches(List<Task> input, Consumer<List<Task>> sequential,
+            Consumer<List<Task>> parallel) {
+        List<Task> expected = new ArrayList<>(input);
+        sequential.accept(expected);
+        List<Task> actual = new LinkedList<>(input);
+        parallel.accept(actual);
+        assertIterableEquals(expected.stream().map(Task::getId).toList(), actual.stream().map(Task::getId).toList());
+    }
+
+    private static void assertSameOrder(List<Task> input, Comparator<Task> comparator,
+            Consumer<List<Task>> sorter) {
+        List<Task> expected = new ArrayList<>(input);
+        expected.sort(comparator);
+        List<Task> actual = new LinkedList<>(input);
+        sorter.accept(actual);
+        assertIterableEquals(expected.stream().map(Task::getId).toList(), actual.stream().map(Task::getId).toList());
+    }
+}
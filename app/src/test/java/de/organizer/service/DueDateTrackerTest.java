@@ -0,0 +1,124 @@
+package de.organizer.service;
+
+import static de.organizer.service.TestTasks.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.model.Task;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+public class DueDateTrackerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void testCountsAndMidnightRollover() {
+        SettableClock clock = new SettableClock(TODAY.atTime(12, 0));
+        DueDateTracker tracker = new DueDateTracker(3, clock);
+        tracker.add(task(1).dueDate(TODAY.minusDays(2)).build());
+        tracker.add(task(2).dueDate(TODAY).build());
+        tracker.add(task(3).dueDate(TODAY.plusDays(1)).build());
+        tracker.add(task(4).dueDate(TODAY.plusDays(3)).build());
+        tracker.add(task(5).dueDate(TODAY.plusDays(4)).build());
+        tracker.add(task(6).dueDate(TODAY).done(true).build());
+        tracker.add(task(7).build());
+
+        assertEquals(1, tracker.getOverdueCount());
+        assertEquals(1, tracker.getDueTodayCount());
+        assertEquals(2, tracker.getDueSoonCount());
+        assertEquals(List.of(3L, 4L), ids(tracker.getDueSoon()));
+
+        tracker.get(6).toggleDone();
+        tracker.doneChanged(tracker.get(6), true);
+        assertEquals(List.of(2L, 6L), ids(tracker.getDueToday()));
+        tracker.get(2).setDone(true);
+        tracker.doneChanged(tracker.get(2), false);
+        tracker.doneChanged(tracker.get(2), true);		// nichts geändert -> keine Wirkung
+        assertEquals(List.of(6L), ids(tracker.getDueToday()));
+        assertThrows(IllegalArgumentException.class, () -> tracker.doneChanged(task(99).done(true).build(), false));
+
+        clock.set(TODAY.plusDays(1).atTime(12, 0));		// nach Mitternacht
+        assertEquals(TODAY.plusDays(1), tracker.getToday());
+        assertEquals(List.of(1L, 6L), ids(tracker.getOverdue()));
+        assertEquals(List.of(3L), ids(tracker.getDueToday()));
+        assertEquals(List.of(4L, 5L), ids(tracker.getDueSoon()));
+
+        tracker.update(task(1).dueDate(TODAY.plusDays(2)).build());		// verschoben
+        assertNotNull(tracker.remove(5));
+        assertEquals(1, tracker.getOverdueCount());
+        assertEquals(2, tracker.getDueSoonCount());
+    }
+
+    @Test
+    void testIncrementalCountsMatchRescan() {
+        Random random = new Random(11);
+        SettableClock clock = new SettableClock(TODAY.atTime(12, 0));
+        DueDateTracker tracker = new DueDateTracker(5, clock);
+        List<Task> tasks = new ArrayList<>();
+
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+            if (action < 4 || tasks.isEmpty()) {
+                Task task = randomTask(random, step, LocalDate.now(clock));
+                tasks.add(task);
+                tracker.add(task);
+            } else if (action < 6) {
+                Task task = tasks.get(random.nextInt(tasks.size()));
+                boolean wasDone = task.isDone();
+                if (random.nextBoolean()) task.toggleDone();
+                else task.setDone(random.nextBoolean());
+                tracker.doneChanged(task, wasDone);
+            } else if (action < 7) {
+                int index = random.nextInt(tasks.size());
+                Task task = randomTask(random, tasks.get(index).getId(), LocalDate.now(clock));
+                tasks.set(index, task);
+                tracker.update(task);
+            } else if (action < 8) {
+                tracker.remove(tasks.remove(random.nextInt(tasks.size())).getId());
+            } else if (action < 9) {
+                clock.set(LocalDate.now(clock).plusDays(random.nextInt(100) == 0 ? -3 : random.nextInt(3)).atTime(12, 0));
+            } else {
+                clock.set(LocalDate.now(clock).plusDays(random.nextInt(20) == 0 ? 30 : 0).atTime(12, 0));
+            }
+
+            LocalDate today = LocalDate.now(clock);
+            assertEquals(count(tasks, d -> d.isBefore(today)), tracker.getOverdueCount(), "Schritt " + step);
+            assertEquals(count(tasks, d -> d.isEqual(today)), tracker.getDueTodayCount(), "Schritt " + step);
+            assertEquals(count(tasks, d -> d.isAfter(today) && !d.isAfter(today.plusDays(5))), tracker.getDueSoonCount(), "Schritt " + step);
+        }
+    }
+
+    @Test
+    void testFollowsRepositoryOverSharedTasks() {
+        DueDateTracker tracker = new DueDateTracker(3, Clock.fixed(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        TaskRepository repository = new TaskRepository();
+        for (Task task : List.of(task(1).dueDate(TODAY).build(), task(2).dueDate(TODAY.minusDays(1)).build())) {
+            repository.add(task);
+            tracker.add(task);
+        }
+
+        boolean wasDone = repository.get(1).isDone();
+        repository.toggleDone(1);                           // Repository ändert, Tracker zieht nach
+        tracker.doneChanged(repository.get(1), wasDone);
+        repository.setDone(2, true);
+        tracker.doneChanged(repository.get(2), false);
+
+        assertEquals(0, tracker.getDueTodayCount());
+        assertEquals(0, tracker.getOverdueCount());
+        assertEquals(2, repository.count(new TaskFilter.Builder().done(true).build()));
+    }
+
+    private static int count(List<Task> tasks, Predicate<LocalDate> due) {
+        return (int) tasks.stream().filter(t -> !t.isDone() && t.getDueDate() != null && due.test(t.getDueDate())).count();
+    }
+
+    private static Task randomTask(Random random, long id, LocalDate today) {
+        LocalDate due = random.nextInt(8) == 0 ? null : today.plusDays(random.nextInt(30) - 10);
+        return task(id).dueDate(due).done(random.nextInt(4) == 0).build();
+    }
+}
@@ -1,6 +1,7 @@
 package de.organizer.service;
 
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -8,6 +9,9 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,4 +64,51 @@ class ExcelRosterReaderTest {
         // Optional: Konsolenausgabe testen (hier nur Aufruf, keine Assertion)
         reader.printRoster(roster);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSaxReaderMatchesDomReader() throws Exception {
+        // Einmal mit Shared Strings (XSSF), einmal mit Inline-Strings (SXSSF)
+        for (boolean streaming : new boolean[] {false, true}) {
+            File file = new File(tempDir, "gross" + streaming + ".xlsx");
+            try (Workbook wb = streaming ? new SXSSFWorkbook() : new XSSFWorkbook()) {
+                Sheet sheet = wb.createSheet();
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("Datum");
+                header.createCell(1).setCellValue(" Früh ");
+                header.createCell(3).setCellValue("Spät"); // Spalte 2 fehlt -> Verschiebung wie im DOM-Reader
+                header.createCell(4).setCellValue("Nacht");
+                for (int i = 1; i <= 400; i++) {
+                    Row row = sheet.createRow(2 * i); // Lücken zwischen den Zeilen
+                    if (i % 37 == 0) {
+                        row.createCell(0).setCellValue("kein Datum");
+                    } else if (i % 41 == 0) {
+                        continue; // Zeile ohne Zellen
+                    } else if (i % 43 != 0) {
+                        row.createCell(0).setCellValue(Date.from(LocalDate.of(2025, 1, 1).plusDays(i)
+                                .atStartOfDay(ZoneId.systemDefault()).toInstant()));
+                    }
+                    row.createCell(1).setCellValue("Anna / Bob" + i);
+                    if (i % 3 == 0) row.createCell(2).setCellValue("Clara");
+                    if (i % 5 == 0) row.createCell(3).setCellValue(42);
+                    else row.createCell(3).setCellValue(" Dieter/ ");
+                    if (i % 7 == 0) row.createCell(2).setCellFormula("\"Eva\"");
+                }
+                try (FileOutputStream fos = new FileOutputStream(file)) {
+                    wb.write(fos);
+                }
+            }
+
+            List<ExcelRosterReader.DaySchedule> expected = new ExcelRosterReader().readRoster(file);
+            List<ExcelRosterReader.DaySchedule> streamed = new ArrayList<>();
+            int count = new ExcelRosterSaxReader().streamRoster(file, streamed::add);
+
+            assertEquals(expected.size(), count);
+            assertEquals(expected.size(), streamed.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getDate(), streamed.get(i).getDate());
+                assertEquals(expected.get(i).getAssignments(), streamed.get(i).getAssignments());
+            }
+            assertEquals(List.of("Anna", "Bob1"), streamed.get(0).getAssignments().get("Früh"));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package de.organizer.service;
+
+import static de.organizer.service.TestTasks.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.model.Memo;
+import de.organizer.model.Task;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+public class FullTextIndexTest {
+
+    private static final String[] WORDS = {"Müller", "Mueller", "Straße", "Einkaufen", "Einkauf", "Zimmer", "aufräumen", "Java", "üben", "Steuer"};
+
+    @Test
+    void testGermanTokenization() {
+        assertEquals(List.of("mueller", "strasse", "gruesse", "2025"), GermanTokenizer.tokenize("MÜLLER, Straße: Grüße 2025!"));
+        assertEquals(List.of("muehle"), GermanTokenizer.tokenize("Mühle"));
+        assertEquals(GermanTokenizer.tokenize("Caf\u00e9 No\u00ebl"), GermanTokenizer.tokenize("Cafe\u0301 Noe\u0308l"));
+        assertEquals(List.of("caf\u00e9", "no\u00ebl"), GermanTokenizer.tokenize("Cafe\u0301 Noe\u0308l"));
+        assertEquals(List.of(), GermanTokenizer.tokenize(null));
+        assertTrue(GermanTokenizer.endsWithSeparator("einka "));
+        assertFalse(GermanTokenizer.endsWithSeparator("einka"));
+    }
+
+    @Test
+    void testSearchWithPrefixAndUpdates() {
+        FullTextIndex<Task> index = FullTextIndex.forTasks();
+        index.add(task(1).title("Zimmer aufräumen").description("Wohnzimmer und Küche").build());
+        index.add(task(2).title("Einkaufen").description("Milch, Brot").build());
+        index.add(task(3).title("Brief an Herrn Müller").build());
+
+        assertEquals(List.of(1L), ids(index.search("kueche")));
+        assertEquals(List.of(3L), ids(index.search("Mueller")));
+        assertEquals(List.of(2L), ids(index.search("einka")));
+        assertEquals(List.of(), ids(index.search("einka ")));
+        assertEquals(List.of(2L), ids(index.search("brot MIL")));
+        assertEquals(List.of(), ids(index.search("")));
+
+        index.update(task(2).title("Einkaufen").description("Käse").build());
+        assertEquals(List.of(), ids(index.search("brot")));
+        assertEquals(List.of(2L), ids(index.search("käse")));
+        assertNotNull(index.remove(1));
+        assertNull(index.remove(1));
+        assertEquals(List.of(), ids(index.search("zimmer")));
+        assertThrows(IllegalArgumentException.class, () -> index.add(task(3).title("doppelt").build()));
+        assertThrows(IllegalArgumentException.class, () -> index.update(task(99).title("fehlt").build()));
+
+        FullTextIndex<Memo> memos = FullTextIndex.forMemos();
+        memos.add(Memo.fromCsv(7, LocalDateTime.of(2025, 6, 1, 9, 0), "Notiz", "Grüße an Oma"));
+        assertEquals(1, memos.search("grues").size());
+    }
+
+    @Test
+    void testSearchMatchesLinearScanAfterMutations() {
+        Random random = new Random(3);
+        FullTextIndex<Task> index = FullTextIndex.forTasks();
+        Map<Long, Task> expected = new LinkedHashMap<>();
+        long nextId = 0;
+
+        for (int step = 0; step < 20000; step++) {
+            int action = random.nextInt(10);
+            if (action < 6 || expected.isEmpty()) {
+                Task task = task(nextId++).title(randomText(random))
+                        .description(random.nextBoolean() ? randomText(random) : null).build();
+                index.add(task);
+                expected.put(task.getId(), task);
+            } else {
+                long id = new ArrayList<>(expected.keySet()).get(random.nextInt(expected.size()));
+                if (action < 8) {
+                    Task task = task(id).title(randomText(random)).build();
+                    index.update(task);
+                    expected.remove(id);
+                    expected.put(id, task);
+                } else {
+                    assertSame(expected.remove(id), index.remove(id));
+                }
+            }
+            if (step % 1000 == 0) {
+                for (int i = 0; i < 20; i++) {
+                    String query = randomText(random);
+                    query = query.substring(0, 1 + random.nextInt(query.length()));
+                    assertEquals(scan(expected.values(), query), ids(index.search(query)), query);
+                }
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        List<Long> all = scan(expected.values(), "e");
+        assertEquals(all.subList(0, Math.min(5, all.size())), ids(index.search("e", 5)));
+    }
+
+    /** Erwartete Treffer ohne Index: alle Wörter enthalten, das letzte ggf. als Präfix */
+    private static List<Long> scan(Iterable<Task> tasks, String query) {
+        List<String> words = GermanTokenizer.tokenize(query);
+        String prefix = GermanTokenizer.endsWithSeparator(query) || words.isEmpty() ? null : words.remove(words.size() - 1);
+        List<Long> result = new ArrayList<>();
+        for (Task task : tasks) {
+            List<String> terms = GermanTokenizer.tokenize(task.getTitle() + " " + Objects.toString(task.getDescription(), ""));
+            if (!terms.containsAll(words)) continue;
+            if (prefix != null && terms.stream().noneMatch(term -> term.startsWith(prefix))) continue;
+            if (words.isEmpty() && prefix == null) continue;
+            result.add(task.getId());
+        }
+        return result;
+    }
+
+    private static String randomText(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        return text.toString().trim();
+    }
+}
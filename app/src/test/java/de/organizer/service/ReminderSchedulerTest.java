@@ -0,0 +1,108 @@
+package de.organizer.service;
+
+import static de.organizer.service.TestTasks.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.model.Task;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 7, 1, 8, 0);
+
+    @Test
+    void testRemindersFireInOrderAndFollowEdits() throws InterruptedException {
+        SettableClock clock = new SettableClock(START);
+        try (ReminderScheduler scheduler = new ReminderScheduler(clock, 100, 1, 16, false)) {
+            BlockingQueue<Long> fired = new LinkedBlockingQueue<>();
+            scheduler.addListener(task -> fired.add(task.getId()));
+
+            scheduler.schedule(task(1).reminderDate(START.plusSeconds(5)).build());
+            scheduler.schedule(task(2).reminderDate(START.plusMinutes(30)).build());		// mehrere Umdrehungen entfernt
+            scheduler.schedule(task(3).reminderDate(START.plusSeconds(10)).build());
+            scheduler.schedule(task(4).reminderDate(START.plusSeconds(20)).build());
+            scheduler.schedule(task(5).build());
+            assertEquals(4, scheduler.size());
+
+            scheduler.schedule(task(3).reminderDate(START.plusSeconds(2)).build());		// bearbeitet -> früher
+            scheduler.schedule(task(4).reminderDate(START.plusSeconds(20)).done(true).build());		// erledigt -> ausgeplant
+            assertFalse(scheduler.isScheduled(4));
+
+            clock.set(START.plusNanos(1_999_000_000));
+            scheduler.advance(clock.millis());
+            assertNull(fired.poll(50, TimeUnit.MILLISECONDS));
+
+            clock.set(START.plusSeconds(6));
+            scheduler.advance(clock.millis());
+            assertEquals(Long.valueOf(3), fired.poll(1, TimeUnit.SECONDS));
+            assertEquals(Long.valueOf(1), fired.poll(1, TimeUnit.SECONDS));
+            assertTrue(scheduler.isScheduled(2));
+
+            for (long t = 6_000; t <= 30 * 60_000; t += 100) {
+                clock.set(START.plusNanos(t * 1_000_000));
+                scheduler.advance(clock.millis());
+            }
+            assertEquals(Long.valueOf(2), fired.poll(1, TimeUnit.SECONDS));
+            assertNull(fired.poll(50, TimeUnit.MILLISECONDS));
+            assertEquals(0, scheduler.size());
+            assertEquals(3, scheduler.getDispatchedCount());
+        }
+    }
+
+    @Test
+    void testCancelAndCatchUpAfterLongPause() throws InterruptedException {
+        SettableClock clock = new SettableClock(START);
+        try (ReminderScheduler scheduler = new ReminderScheduler(clock, 100, 2, 4, false)) {
+            Set<Long> fired = Collections.synchronizedSet(new HashSet<>());
+            scheduler.addListener(task -> fired.add(task.getId()));
+            scheduler.addListener(task -> {
+                if (task.getId() == 1) throw new IllegalStateException("Listener defekt");
+            });
+
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 1; i <= 1000; i++) tasks.add(task(i).reminderDate(START.plusSeconds(i * 7L)).build());
+            tasks.add(task(1001).reminderDate(START.minusDays(1)).build());		// beim Laden schon fällig
+            scheduler.scheduleAll(tasks);
+            for (int i = 2; i <= 1000; i += 2) assertTrue(scheduler.cancel(i));
+            assertFalse(scheduler.cancel(2));
+
+            clock.set(START.plusSeconds(8_000));		// Standby: viele Umdrehungen übersprungen
+            scheduler.advance(clock.millis());
+            scheduler.close();
+            assertTrue(waitFor(() -> scheduler.getDispatchedCount() == 501));
+
+            Set<Long> expected = new HashSet<>();
+            for (long i = 1; i <= 1000; i += 2) expected.add(i);
+            expected.add(1001L);
+            assertEquals(expected, fired);
+            assertEquals(0, scheduler.size());
+            assertTrue(scheduler.getMaxDispatchLatencyMillis() >= 8_000_000 - 7_000);
+        }
+    }
+
+    @Test
+    void testRealTimeDispatchLatency() throws InterruptedException {
+        try (ReminderScheduler scheduler = new ReminderScheduler(Clock.systemDefaultZone(), 10, 1, 16, true)) {
+            BlockingQueue<Long> fired = new LinkedBlockingQueue<>();
+            scheduler.addListener(task -> fired.add(task.getId()));
+            scheduler.schedule(task(1).reminderDate(LocalDateTime.now().plusNanos(50_000_000)).build());
+            assertEquals(Long.valueOf(1), fired.poll(5, TimeUnit.SECONDS));
+            assertTrue(scheduler.getMaxDispatchLatencyMillis() < 1_000);
+        }
+    }
+
+    private static boolean waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 500 && !condition.getAsBoolean(); i++) Thread.sleep(10);
+        return condition.getAsBoolean();
+    }
+}
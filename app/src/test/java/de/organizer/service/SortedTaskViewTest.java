@@ -0,0 +1,77 @@
+package de.organizer.service;
+
+import static de.organizer.service.TestTasks.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SortedTaskViewTest {
+
+    @Test
+    void testViewMatchesResortAfterEdits() {
+        Random random = new Random(7);
+        for (TaskOrder order : TaskOrder.values()) {
+            List<Task> list = new ArrayList<>();
+            SortedTaskView view = new SortedTaskView(order);
+
+            for (int step = 0; step < 2000; step++) {
+                int action = random.nextInt(4);
+                if (action < 2 || list.isEmpty()) {
+                    Task task = randomTask(random, step);
+                    list.add(task);
+                    view.add(task);
+                } else if (action == 2) {
+                    int index = random.nextInt(list.size());
+                    Task task = randomTask(random, list.get(index).getId());
+                    list.set(index, task);
+                    view.update(task);
+                } else {
+                    Task removed = list.remove(random.nextInt(list.size()));
+                    assertTrue(view.remove(removed.getId()));
+                }
+            }
+
+            List<Task> expected = new ArrayList<>(list);
+            order.sort(expected);
+            assertEquals(ids(expected), ids(view.toList()), order.name());
+            assertEquals(ids(expected.subList(0, 10)), ids(view.first(10)), order.name());
+            assertEquals(ids(expected.subList(6, 11)), ids(view.after(expected.get(5).getId(), 5)), order.name());
+        }
+    }
+
+    @Test
+    void testNextDueTasks() {
+        List<Task> tasks = List.of(
+                task(1).dueDate(LocalDate.of(2025, 8, 3)).priority(Priority.LOW).build(),
+                task(2).priority(Priority.URGENT).build(),
+                task(3).dueDate(LocalDate.of(2025, 8, 1)).priority(Priority.HIGH).build(),
+                task(4).dueDate(LocalDate.of(2025, 8, 2)).priority(Priority.MEDIUM).build());
+        SortedTaskView view = new SortedTaskView(TaskOrder.DUE_DATE, tasks);
+
+        assertEquals(List.of(3L, 4L), ids(view.first(2)));
+
+        view.update(task(3).dueDate(LocalDate.of(2025, 9, 1)).priority(Priority.HIGH).build());
+        view.remove(4);
+        assertEquals(List.of(1L, 3L, 2L), ids(view.first(5)));
+        assertEquals(List.of(), ids(view.after(2, 3)));
+        assertFalse(view.remove(4));
+        assertThrows(IllegalArgumentException.class, () -> view.after(4, 1));
+        assertEquals(3, view.size());
+    }
+
+    private static Task randomTask(Random random, long id) {
+        LocalDate dueDate = random.nextInt(4) == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(random.nextInt(60));
+        return task(id).createdAt(CREATED.plusMinutes(random.nextInt(500)))
+                .category(Category.values()[random.nextInt(Category.values().length)])
+                .title("Task " + random.nextInt(50))
+                .dueDate(dueDate)
+                .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                .build();
+    }
+}
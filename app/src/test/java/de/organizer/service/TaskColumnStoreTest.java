@@ -0,0 +1,61 @@
+package de.organizer.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TaskColumnStoreTest {
+
+    @Test
+    void testRoundTripAndView() {
+        Random random = new Random(8);
+        List<Task> tasks = new ArrayList<>();
+        for (int id = 0; id < 5000; id++) {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(random.nextInt(30_000_000)).plusNanos(random.nextInt(1_000_000_000));
+            LocalDate dueDate = random.nextInt(4) == 0 ? null : LocalDate.of(2025, 1, 1).plusDays(random.nextInt(800) - 400);
+            LocalDateTime reminder = random.nextInt(3) == 0 ? createdAt.plusMinutes(random.nextInt(100_000)) : null;
+            tasks.add(Task.fromCsv(id, createdAt, Category.values()[random.nextInt(6)], "Titel " + random.nextInt(20),
+                    random.nextBoolean() ? null : "Beschreibung " + id, dueDate, reminder, Priority.values()[random.nextInt(4)], random.nextBoolean()));
+        }
+        tasks.add(Task.fromCsv(-5, LocalDateTime.of(1850, 3, 1, 12, 0), Category.OTHER, "Ä", null, LocalDate.of(1900, 1, 1), null, Priority.LOW, false));
+
+        TaskColumnStore store = new TaskColumnStore(tasks);
+        assertEquals(tasks.size(), store.size());
+        List<Task> restored = store.toTasks();
+        TaskColumnStore.View view = store.view();
+        for (int i = 0; i < tasks.size(); i++) {
+            assertArrayEquals(tasks.get(i).toCsvRow(), restored.get(i).toCsvRow());
+            assertEquals(tasks.get(i).getCreatedAt(), view.at(i).getCreatedAt());
+            assertEquals(tasks.get(i).getReminderDate(), view.getReminderDate());
+            assertEquals(tasks.get(i).getDueDate(), view.getDueDate());
+            assertEquals(tasks.get(i).getTitle(), view.getTitle());
+        }
+        for (int i = 1; i < tasks.size(); i++) {     // gleiche Titel teilen sich eine Instanz
+            if (tasks.get(i).getTitle().equals(tasks.get(0).getTitle())) {
+                assertNotSame(tasks.get(0).getTitle(), tasks.get(i).getTitle());
+                assertSame(store.view().at(0).getTitle(), view.at(i).getTitle());
+                break;
+            }
+        }
+
+        int done = store.countDone();
+        view.at(3).toggleDone();
+        assertEquals(!tasks.get(3).isDone(), store.isDone(3));
+        store.setDone(3, tasks.get(3).isDone());
+        assertEquals(done, store.countDone());
+        store.set(1, tasks.get(2));
+        assertEquals(tasks.get(2).getId(), store.getId(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.getId(tasks.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.at(-1));
+
+        store.trimToSize();
+        assertTrue(store.estimateHeapBytes() < TaskColumnStore.estimateHeapBytes(tasks) / 2);
+    }
+}
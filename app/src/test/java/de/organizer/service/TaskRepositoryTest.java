@@ -0,0 +1,122 @@
+package de.organizer.service;
+
+import static de.organizer.service.TestTasks.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class TaskRepositoryTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void testCombinedFilter() {
+        TaskRepository repository = new TaskRepository(List.of(
+                task(1).priority(Priority.URGENT).dueDate(START).build(),
+                task(2).priority(Priority.URGENT).dueDate(START.plusDays(10)).build(),
+                task(3).priority(Priority.LOW).dueDate(START).build(),
+                task(4).category(Category.HEALTH).priority(Priority.URGENT).dueDate(START).build(),
+                task(5).priority(Priority.URGENT).build()));
+        repository.setDone(4, true);
+
+        TaskFilter urgentWorkThisWeek = new TaskFilter.Builder()
+                .categories(Category.WORK)
+                .priorities(Priority.URGENT)
+                .done(false)
+                .dueBetween(START, START.plusDays(6))
+                .build();
+        assertEquals(List.of(1L), ids(repository.find(urgentWorkThisWeek)));
+
+        repository.update(task(2).priority(Priority.URGENT).dueDate(START.plusDays(3)).build());
+        repository.toggleDone(1);
+        assertEquals(List.of(2L), ids(repository.find(urgentWorkThisWeek)));
+        assertEquals(1, repository.count(new TaskFilter.Builder().done(true).categories(Category.WORK).build()));
+        assertEquals(4, repository.count(new TaskFilter.Builder().dueBetween(null, null).build()));
+
+        assertNotNull(repository.remove(2));
+        assertNull(repository.remove(2));
+        assertEquals(0, repository.count(urgentWorkThisWeek));
+        assertThrows(IllegalArgumentException.class, () -> repository.add(task(1).category(Category.OTHER).priority(Priority.LOW).build()));
+        assertThrows(IllegalArgumentException.class, () -> repository.update(task(99).category(Category.OTHER).priority(Priority.LOW).build()));
+    }
+
+    @Test
+    void testIndexesMatchLinearScanAfterMutations() {
+        Random random = new Random(11);
+        TaskRepository repository = new TaskRepository();
+        Map<Long, Task> expected = new LinkedHashMap<>();
+        long nextId = 0;
+
+        for (int step = 0; step < 20000; step++) {
+            int action = random.nextInt(10);
+            if (action < 5 || expected.isEmpty()) {
+                Task task = randomTask(random, nextId++);
+                repository.add(task);
+                expected.put(task.getId(), task);
+            } else {
+                long id = new ArrayList<>(expected.keySet()).get(random.nextInt(expected.size()));
+                if (action < 7) {
+                    Task task = randomTask(random, id);
+                    repository.update(task);
+                    expected.put(id, task);
+                } else if (action < 8) {
+                    repository.toggleDone(id);
+                } else {
+                    assertSame(expected.remove(id), repository.remove(id));
+                }
+            }
+            if (step % 2000 == 0) assertSameResults(random, repository, expected);
+        }
+        // viele Löschungen -> Verdichten der Slots
+        List<Long> all = new ArrayList<>(expected.keySet());
+        for (int i = 0; i < all.size() * 3 / 4; i++) {
+            repository.remove(all.get(i));
+            expected.remove(all.get(i));
+        }
+        assertSameResults(random, repository, expected);
+        assertEquals(expected.size(), repository.size());
+    }
+
+    private static void assertSameResults(Random random, TaskRepository repository, Map<Long, Task> expected) {
+        for (int i = 0; i < 50; i++) {
+            TaskFilter.Builder builder = new TaskFilter.Builder();
+            if (random.nextBoolean()) builder.categories(Category.values()[random.nextInt(6)], Category.values()[random.nextInt(6)]);
+            if (random.nextBoolean()) builder.priorities(Priority.values()[random.nextInt(4)]);
+            if (random.nextBoolean()) builder.done(random.nextBoolean());
+            if (random.nextBoolean()) {
+                LocalDate from = START.plusDays(random.nextInt(60));
+                builder.dueBetween(from, from.plusDays(random.nextInt(14)));
+            }
+            if (random.nextInt(4) == 0) {
+                LocalDateTime from = START.atStartOfDay().plusHours(random.nextInt(1000));
+                builder.reminderBetween(from, random.nextBoolean() ? null : from.plusHours(random.nextInt(200)));
+            }
+            TaskFilter filter = builder.build();
+
+            List<Task> scanned = expected.values().stream().filter(filter::matches).collect(Collectors.toList());
+            assertEquals(ids(scanned), ids(repository.find(filter)));
+            assertEquals(scanned.size(), repository.count(filter));
+        }
+    }
+
+    private static Task randomTask(Random random, long id) {
+        LocalDate dueDate = random.nextInt(5) == 0 ? null : START.plusDays(random.nextInt(70));
+        LocalDateTime reminder = random.nextInt(3) == 0 ? START.atStartOfDay().plusHours(random.nextInt(1200)) : null;
+        return task(id).category(Category.values()[random.nextInt(6)])
+                .priority(Priority.values()[random.nextInt(4)])
+                .dueDate(dueDate)
+                .reminderDate(reminder)
+                .done(random.nextBoolean())
+                .build();
+    }
+}
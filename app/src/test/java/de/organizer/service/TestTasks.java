@@ -0,0 +1,140 @@
+package de.organizer.service;
+
+import de.organizer.model.Task;
+import de.organizer.util.Category;
+import de.organizer.util.Priority;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Gemeinsame Hilfen für die Service-Tests.
+ * Tasks mit fester id (nötig, um denselben Task per update() zu ersetzen) entstehen wie beim Laden
+ * über Task.fromCsv(); Felder, die ein Test nicht setzt, haben die Standardwerte der Vorlage.
+ * Für Komponenten mit Uhr: Clock.fixed() genügt, solange die Zeit stillsteht, sonst SettableClock.
+ */
+final class TestTasks {
+
+    static final LocalDateTime CREATED = LocalDateTime.of(2025, 7, 1, 8, 0);
+
+    private TestTasks() {}
+
+    /** @return Vorlage für einen offenen Task: WORK, MEDIUM, Titel "Task id", erstellt CREATED */
+    static TaskTemplate task(long id) {
+        return new TaskTemplate(id);
+    }
+
+    static List<Long> ids(Collection<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toList());
+    }
+
+    /** Wie Task.Builder, aber mit fester id und festem Erstellzeitpunkt. */
+    static final class TaskTemplate {
+
+        private final long id;
+        private LocalDateTime createdAt = CREATED;
+        private Category category = Category.WORK;
+        private String title;
+        private String description;
+        private LocalDate dueDate;
+        private LocalDateTime reminderDate;
+        private Priority priority = Priority.MEDIUM;
+        private boolean done;
+
+        private TaskTemplate(long id) {
+            this.id = id;
+            this.title = "Task " + id;
+        }
+
+        TaskTemplate createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        TaskTemplate category(Category category) {
+            this.category = category;
+            return this;
+        }
+
+        TaskTemplate title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        TaskTemplate description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        TaskTemplate dueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+            return this;
+        }
+
+        TaskTemplate reminderDate(LocalDateTime reminderDate) {
+            this.reminderDate = reminderDate;
+            return this;
+        }
+
+        TaskTemplate priority(Priority priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        TaskTemplate done(boolean done) {
+            this.done = done;
+            return this;
+        }
+
+        Task build() {
+            return Task.fromCsv(id, createdAt, category, title, description, dueDate, reminderDate, priority, done);
+        }
+    }
+
+    /**
+     * Uhr, die der Test weiterstellt (Zeitzone UTC). Clock.offset() liefert bei jeder Änderung
+     * eine neue Instanz, die geprüfte Komponente behält aber die Uhr aus ihrem Konstruktor.
+     */
+    static final class SettableClock extends Clock {
+
+        private final AtomicReference<Instant> now;
+        private final ZoneId zone;
+
+        SettableClock(LocalDateTime now) {
+            this(new AtomicReference<>(now.toInstant(ZoneOffset.UTC)), ZoneOffset.UTC);
+        }
+
+        private SettableClock(AtomicReference<Instant> now, ZoneId zone) {
+            this.now = now;
+            this.zone = zone;
+        }
+
+        /** @param dateTime neue Uhrzeit in der Zeitzone der Uhr */
+        void set(LocalDateTime dateTime) {
+            now.set(dateTime.atZone(zone).toInstant());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        /** @return Uhr mit anderer Zeitzone, die mit dieser weitergestellt wird */
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new SettableClock(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    }
+}
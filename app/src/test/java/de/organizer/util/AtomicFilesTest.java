@@ -0,0 +1,46 @@
+package de.organizer.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AtomicFilesTest {
+
+	@TempDir
+	File tempDir;
+
+	@Test
+	void testWriteReplacesTargetAndLeavesNoTempFiles() throws IOException {
+		Path target = tempDir.toPath().resolve("ids.mark");
+		write(target, "1");
+		write(target, "65536");
+
+		assertEquals("65536", Files.readString(target));
+		assertArrayEquals(new String[] {"ids.mark"}, tempDir.list());
+	}
+
+	@Test
+	void testFailedWriteKeepsTarget() throws IOException {
+		Path target = tempDir.toPath().resolve("ids.mark");
+		write(target, "1");
+
+		assertThrows(IOException.class, () -> AtomicFiles.write(target, true, channel -> {
+			channel.write(ByteBuffer.wrap("2".getBytes(StandardCharsets.US_ASCII)));
+			throw new IOException("Datenträger voll");
+		}));
+		assertEquals("1", Files.readString(target));
+		assertArrayEquals(new String[] {"ids.mark"}, tempDir.list());
+	}
+
+	private static void write(Path target, String text) throws IOException {
+		AtomicFiles.write(target, true, channel -> channel.write(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII))));
+	}
+}
@@ -3,16 +3,38 @@ package de.organizer.util;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.organizer.model.Task;
 
 public class IDGeneratorTest {
 
+	@TempDir
+	File tempDir;
+
 	//Setup-Block vor jedem Test
 	@BeforeEach
 	void resetBeforeEachTest() {
 		IDGenerator.reset();
 	}
+
+	@AfterEach
+	void resetAfterEachTest() {
+		IDGenerator.reset();
+	}
 	
 	//Test 1: Ist die erste generierte ID 1?
 	@Test
@@ -32,5 +54,59 @@ public class IDGeneratorTest {
 		assertEquals(2L, id2, "Die erste generierte ID sollte 2 sein");
 		assertEquals(3L, id3, "Die erste generierte ID sollte 3 sein");
 	}
-}
 
+	//Test 3: Neue IDs liegen hinter den geladenen
+	@Test
+	void testLoadedIdsReseedGenerator() {
+		IDGenerator.generateID();
+		Task.fromCsv(500L, LocalDateTime.of(2025, 1, 1, 0, 0), Category.WORK, "Geladen", null, null, null, Priority.LOW, false);
+		assertEquals(501L, IDGenerator.generateID(), "Nach dem Laden sollte hinter der höchsten ID weitergezählt werden");
+
+		Task.fromCsv(Long.MAX_VALUE, LocalDateTime.of(2025, 1, 1, 0, 0), Category.WORK, "Fremd", null, null, null, Priority.LOW, false);
+		assertEquals(502L, IDGenerator.generateID(), "IDs ganz oben im Wertebereich werden ignoriert");
+	}
+
+	//Test 4: Eindeutig bei gleichzeitiger Erzeugung
+	@Test
+	void testIdsAreUniqueAcrossThreads() throws InterruptedException {
+		int threads = 8;
+		int perThread = 10_000;
+		List<long[]> results = new ArrayList<>();
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			long[] ids = new long[perThread];
+			results.add(ids);
+			workers.add(new Thread(() -> {
+				for (int i = 0; i < perThread; i++) ids[i] = IDGenerator.generateID();
+			}));
+		}
+		workers.forEach(Thread::start);
+		for (Thread worker : workers) worker.join();
+
+		Set<Long> unique = new HashSet<>();
+		for (long[] ids : results) {
+			for (int i = 0; i < perThread; i++) {
+				assertTrue(ids[i] > 0, "IDs sollten positiv sein");
+				assertTrue(unique.add(ids[i]), "Doppelte ID " + ids[i]);
+				if (i > 0) assertTrue(ids[i] > ids[i - 1], "IDs eines Threads sollten aufsteigen");
+			}
+		}
+	}
+
+	//Test 5: Hochwassermarke überlebt einen Neustart
+	@Test
+	void testPersistedHighWaterMarkSurvivesRestart() throws IOException {
+		Path mark = tempDir.toPath().resolve("ids.mark");
+		IDGenerator.persistHighWaterMark(mark);
+		long last = 0;
+		for (int i = 0; i < 100_000; i++) last = IDGenerator.generateID();
+		assertTrue(Long.parseLong(Files.readString(mark)) >= last, "Marke sollte alle vergebenen IDs abdecken");
+
+		IDGenerator.reset();		// Neustart: Zähler beginnt wieder bei 0
+		IDGenerator.persistHighWaterMark(mark);
+		assertTrue(IDGenerator.generateID() > last, "Nach dem Neustart sollten keine IDs doppelt vergeben werden");
+
+		Files.writeString(mark, "kaputt");
+		assertThrows(IOException.class, () -> IDGenerator.persistHighWaterMark(mark));
+	}
+}
@@ -0,0 +1,102 @@
+package de.organizer.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.organizer.model.Task;
+
+public class SnowflakeIDGeneratorTest {
+
+	private static final long NOW = SnowflakeIDGenerator.EPOCH_MILLIS + 1_000_000;
+
+	@AfterEach
+	void resetGenerator() {
+		IDGenerator.reset();
+	}
+
+	//Test 1: Zeitstempel, Knoten und Folgenummer lassen sich zurückgewinnen
+	@Test
+	void testIdPacksTimestampNodeAndSequence() {
+		SnowflakeIDGenerator generator = new SnowflakeIDGenerator(7, () -> NOW);
+		long first = generator.nextId();
+		long second = generator.nextId();
+
+		assertEquals(NOW, SnowflakeIDGenerator.timestampOf(first));
+		assertEquals(7, SnowflakeIDGenerator.nodeOf(first));
+		assertEquals(0, SnowflakeIDGenerator.sequenceOf(first));
+		assertEquals(1, SnowflakeIDGenerator.sequenceOf(second));
+		assertTrue(first > 0);
+		assertThrows(IllegalArgumentException.class, () -> new SnowflakeIDGenerator(SnowflakeIDGenerator.MAX_NODE_ID + 1));
+	}
+
+	//Test 2: Monoton auch bei Folgenummer-Überlauf und zurückgestellter Uhr
+	@Test
+	void testIdsStayMonotonic() {
+		AtomicLong clock = new AtomicLong(NOW);
+		SnowflakeIDGenerator generator = new SnowflakeIDGenerator(3, clock::get);
+		long previous = 0;
+		for (int i = 0; i < 10_000; i++) {		// mehr als 4096 in derselben Millisekunde
+			long id = generator.nextId();
+			assertTrue(id > previous, "IDs sollten streng steigen");
+			assertEquals(3, SnowflakeIDGenerator.nodeOf(id));
+			previous = id;
+		}
+		clock.set(NOW - 60_000);
+		assertTrue(generator.nextId() > previous, "Zurückgestellte Uhr darf keine kleineren IDs erzeugen");
+
+		SnowflakeIDGenerator restarted = new SnowflakeIDGenerator(3, clock::get);
+		restarted.observe(previous);
+		restarted.observe(previous + (1L << SnowflakeIDGenerator.SEQUENCE_BITS) * 1000);	// anderer Knoten -> ignoriert
+		assertEquals(previous + 1, restarted.nextId());
+	}
+
+	//Test 3: Knoten sortieren nach Zeit und kollidieren nicht
+	@Test
+	void testNodesDoNotCollideAndSortByTime() throws InterruptedException {
+		SnowflakeIDGenerator nodeA = new SnowflakeIDGenerator(1, () -> NOW);
+		SnowflakeIDGenerator nodeB = new SnowflakeIDGenerator(2, () -> NOW);
+		SnowflakeIDGenerator later = new SnowflakeIDGenerator(0, () -> NOW + 1);
+		assertTrue(later.nextId() > nodeB.nextId());
+
+		Set<Long> unique = new HashSet<>();
+		List<Thread> workers = new ArrayList<>();
+		List<long[]> results = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			SnowflakeIDGenerator generator = t % 2 == 0 ? nodeA : nodeB;
+			long[] ids = new long[20_000];
+			results.add(ids);
+			workers.add(new Thread(() -> {
+				for (int i = 0; i < ids.length; i++) ids[i] = generator.nextId();
+			}));
+		}
+		workers.forEach(Thread::start);
+		for (Thread worker : workers) worker.join();
+		for (long[] ids : results) {
+			for (long id : ids) assertTrue(unique.add(id), "Doppelte ID " + id);
+		}
+	}
+
+	//Test 4: Task-Builder vergibt im Snowflake-Modus Snowflake-IDs
+	@Test
+	void testIdGeneratorSnowflakeMode() {
+		IDGenerator.useSnowflakeIds(42);
+		Task task = new Task.Builder().category(Category.WORK).title("Verteilt").priority(Priority.LOW).build();
+		assertEquals(42, SnowflakeIDGenerator.nodeOf(task.getId()));
+		assertTrue(Math.abs(SnowflakeIDGenerator.timestampOf(task.getId()) - System.currentTimeMillis()) < 60_000);
+
+		Task loaded = Task.fromCsv(task.getId() + 100, LocalDateTime.now(), Category.WORK, "Geladen", null, null, null, Priority.LOW, false);
+		assertTrue(IDGenerator.generateID() > loaded.getId(), "Geladene IDs des eigenen Knotens werden übersprungen");
+
+		IDGenerator.useSequentialIds();
+		assertTrue(IDGenerator.generateID() > 0);
+	}
+}